@@ -0,0 +1,80 @@
+package com.alec.FindJobApp.security;
+
+import com.alec.FindJobApp.model.Role;
+import com.alec.FindJobApp.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of verifying one bearer token. {@code perRequestParsing} reproduces the filter before the
+ * single-parse change: the key and parser rebuilt on every call, and the token parsed three
+ * times (subject, then subject and expiry again in validateToken). {@code verify} is the
+ * current path and {@code cachedVerify} the steady state with the verified-token cache enabled.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}; the gc profiler reports allocations
+ * as gc.alloc.rate.norm (bytes/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtVerificationBenchmark {
+
+  private static final String SECRET = "YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWp3dC12ZXJpZmljYXRpb24tb25seQ==";
+
+  private JwtUtils jwtUtils;
+  private VerifiedTokenCache verifiedTokenCache;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtUtils = new JwtUtils(SECRET, TimeUnit.DAYS.toMillis(1));
+    token = jwtUtils.generateToken(User.builder()
+        .id(42L)
+        .email("seeker@example.com")
+        .role(Role.SEEKER)
+        .isActive(true)
+        .build());
+    verifiedTokenCache = new VerifiedTokenCache(jwtUtils, true, 10_000);
+  }
+
+  @Benchmark
+  public Object perRequestParsing() {
+    String username = parse(token).getSubject();
+    boolean valid = parse(token).getSubject().equals(username)
+        && !parse(token).getExpiration().before(new Date());
+    return valid ? username : null;
+  }
+
+  @Benchmark
+  public VerifiedToken verify() {
+    return jwtUtils.verify(token);
+  }
+
+  @Benchmark
+  public VerifiedToken cachedVerify() {
+    return verifiedTokenCache.verify(token);
+  }
+
+  private static Claims parse(String token) {
+    SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+  }
+}
@@ -0,0 +1,42 @@
+package com.alec.FindJobApp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  public static final String OPEN_JOBS_CACHE = "openJobs";
+
+  @Value("${app.cache.open-jobs.max-size:500}")
+  private long openJobsMaxSize;
+
+  /**
+   * Job edits clear the open-job cache on commit, but application count changes (apply,
+   * withdraw, seeker deletion, reconciliation) deliberately do not: clearing every page on each
+   * apply would empty the cache exactly when a hot posting makes it useful. Cached pages, and
+   * the listing ETags derived from them, may therefore show an applicationCount up to this TTL
+   * old.
+   */
+  @Value("${app.cache.open-jobs.ttl:60s}")
+  private Duration openJobsTtl;
+
+  @Bean
+  public CacheManager cacheManager() {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager(OPEN_JOBS_CACHE);
+    cacheManager.setCaffeine(Caffeine.newBuilder()
+        .maximumSize(openJobsMaxSize)
+        .expireAfterWrite(openJobsTtl)
+        .recordStats());
+    cacheManager.setAllowNullValues(false);
+    return cacheManager;
+  }
+}
@@ -0,0 +1,26 @@
+package com.alec.FindJobApp.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+
+/**
+ * Keeps open-in-view for the API but leaves the auth endpoints out. Those wait on the bounded
+ * password hashing pool, and with an entity manager held open each waiting request would also
+ * hold a database connection, so a login flood would drain the pool every other endpoint needs.
+ * Defining the filter replaces Spring Boot's default open-in-view interceptor.
+ */
+@Configuration
+public class PersistenceConfig {
+
+  @Bean
+  public OpenEntityManagerInViewFilter openEntityManagerInViewFilter() {
+    return new OpenEntityManagerInViewFilter() {
+      @Override
+      protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/api/auth/");
+      }
+    };
+  }
+}
@@ -6,15 +6,18 @@ import com.alec.FindJobApp.dto.JobDTO;
 import com.alec.FindJobApp.dto.UserDTO;
 import com.alec.FindJobApp.model.Role;
 import com.alec.FindJobApp.model.User;
-import com.alec.FindJobApp.model.Job;
-import com.alec.FindJobApp.model.Application;
 import com.alec.FindJobApp.repository.ApplicationRepository;
 import com.alec.FindJobApp.repository.JobRepository;
 import com.alec.FindJobApp.repository.UserRepository;
-import com.alec.FindJobApp.service.EmailService;
+import com.alec.FindJobApp.security.BoundedPasswordEncoder;
+import com.alec.FindJobApp.service.ApplicationService;
 import com.alec.FindJobApp.service.UserService;
 import com.alec.FindJobApp.service.JobService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -39,8 +42,10 @@ public class AdminController {
   private final UserRepository userRepository;
   private final JobRepository jobRepository;
   private final ApplicationRepository applicationRepository;
-  private final EmailService emailService;
   private final JobService jobService;
+  private final ApplicationService applicationService;
+  private final CacheManager cacheManager;
+  private final BoundedPasswordEncoder passwordEncoder;
 
   @GetMapping("/users")
   public ResponseEntity<ApiResponse<Page<UserDTO>>> getAllUsers(
@@ -89,34 +94,13 @@ public class AdminController {
 
   @PatchMapping("/recruiters/{id}/approve")
   public ResponseEntity<ApiResponse<Void>> approveRecruiter(@PathVariable Long id) {
-    User user = userRepository.findById(id)
-        .orElseThrow(() -> new RuntimeException("User not found"));
-
-    if (user.getRole() != Role.RECRUITER) {
-      throw new RuntimeException("User is not a recruiter");
-    }
-
-    user.setIsApproved(true);
-    userRepository.save(user);
-
-    emailService.sendRecruiterApprovalEmail(user.getEmail(), user.getFullName());
-
+    userService.approveRecruiter(id);
     return ResponseEntity.ok(ApiResponse.success("Recruiter approved successfully", null));
   }
 
   @PatchMapping("/recruiters/{id}/reject")
   public ResponseEntity<ApiResponse<Void>> rejectRecruiter(@PathVariable Long id) {
-    User user = userRepository.findById(id)
-        .orElseThrow(() -> new RuntimeException("User not found"));
-
-    if (user.getRole() != Role.RECRUITER) {
-      throw new RuntimeException("User is not a recruiter");
-    }
-
-    emailService.sendRecruiterRejectionEmail(user.getEmail(), user.getFullName());
-
-    userRepository.delete(user);
-
+    userService.rejectRecruiter(id);
     return ResponseEntity.ok(ApiResponse.success("Recruiter rejected and account deleted", null));
   }
 
@@ -148,33 +132,39 @@ public class AdminController {
     return ResponseEntity.ok(ApiResponse.success(stats));
   }
 
+  @GetMapping("/cache-stats")
+  public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> getCacheStats() {
+    Map<String, Map<String, Object>> stats = new HashMap<>();
+    for (String name : cacheManager.getCacheNames()) {
+      if (cacheManager.getCache(name) instanceof CaffeineCache caffeineCache) {
+        Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+        CacheStats cacheStats = nativeCache.stats();
+        Map<String, Object> cacheInfo = new HashMap<>();
+        cacheInfo.put("size", nativeCache.estimatedSize());
+        cacheInfo.put("hitCount", cacheStats.hitCount());
+        cacheInfo.put("missCount", cacheStats.missCount());
+        cacheInfo.put("hitRate", cacheStats.hitRate());
+        cacheInfo.put("evictionCount", cacheStats.evictionCount());
+        stats.put(name, cacheInfo);
+      }
+    }
+    return ResponseEntity.ok(ApiResponse.success(stats));
+  }
+
+  @GetMapping("/password-hashing-stats")
+  public ResponseEntity<ApiResponse<Map<String, Object>>> getPasswordHashingStats() {
+    return ResponseEntity.ok(ApiResponse.success(passwordEncoder.stats()));
+  }
+
   @GetMapping("/recent-jobs")
   public ResponseEntity<ApiResponse<List<JobDTO>>> getRecentJobs() {
     Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
-    Page<Job> jobs = jobRepository.findAll(pageable);
-    List<JobDTO> jobDTOs = jobs.getContent().stream()
-        .map(jobService::toDTO)
-        .collect(Collectors.toList());
+    List<JobDTO> jobDTOs = jobService.getAllJobs(pageable).getContent();
     return ResponseEntity.ok(ApiResponse.success(jobDTOs));
   }
 
   @GetMapping("/recent-applications")
   public ResponseEntity<ApiResponse<List<ApplicationDTO>>> getRecentApplications() {
-    Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "appliedAt"));
-    Page<Application> applications = applicationRepository.findAll(pageable);
-    List<ApplicationDTO> applicationDTOs = applications.getContent().stream()
-        .map(app -> ApplicationDTO.builder()
-            .id(app.getId())
-            .jobId(app.getJob().getId())
-            .jobTitle(app.getJob().getTitle())
-            .company(app.getJob().getCompany())
-            .seekerId(app.getSeeker().getId())
-            .seekerName(app.getSeeker().getFullName())
-            .seekerEmail(app.getSeeker().getEmail())
-            .status(app.getStatus())
-            .appliedAt(app.getAppliedAt())
-            .build())
-        .collect(Collectors.toList());
-    return ResponseEntity.ok(ApiResponse.success(applicationDTOs));
+    return ResponseEntity.ok(ApiResponse.success(applicationService.getRecentApplications(5)));
   }
 }
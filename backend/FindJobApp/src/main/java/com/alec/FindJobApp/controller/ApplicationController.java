@@ -2,18 +2,26 @@ package com.alec.FindJobApp.controller;
 
 import com.alec.FindJobApp.dto.ApiResponse;
 import com.alec.FindJobApp.dto.ApplicationDTO;
+import com.alec.FindJobApp.dto.BulkStatusUpdateRequest;
+import com.alec.FindJobApp.dto.ResumeUploadDTO;
 import com.alec.FindJobApp.model.ApplicationStatus;
+import com.alec.FindJobApp.service.ApplicationExportService;
 import com.alec.FindJobApp.service.ApplicationService;
+import com.alec.FindJobApp.service.ResumeUploadService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/applications")
@@ -21,22 +29,31 @@ import org.springframework.web.multipart.MultipartFile;
 public class ApplicationController {
 
   private final ApplicationService applicationService;
+  private final ApplicationExportService applicationExportService;
+  private final ResumeUploadService resumeUploadService;
 
-  @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @PostMapping(value = "/resumes", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @PreAuthorize("hasRole('SEEKER')")
+  public ResponseEntity<ApiResponse<ResumeUploadDTO>> uploadResume(@RequestParam MultipartFile resume) {
+    return ResponseEntity.ok(ApiResponse.success("Resume uploaded", resumeUploadService.stage(resume)));
+  }
+
+  @PostMapping
   @PreAuthorize("hasRole('SEEKER')")
   public ResponseEntity<ApiResponse<ApplicationDTO>> applyForJob(
       @RequestParam Long jobId,
       @RequestParam(required = false) String coverLetter,
-      @RequestParam(required = false) MultipartFile resume) {
-    ApplicationDTO application = applicationService.applyForJob(jobId, coverLetter, resume);
+      @RequestParam(required = false) String resumeUploadId) {
+    ApplicationDTO application = applicationService.applyForJob(jobId, coverLetter, resumeUploadId);
     return ResponseEntity.ok(ApiResponse.success("Application submitted successfully", application));
   }
 
   @GetMapping("/my-applications")
   @PreAuthorize("hasRole('SEEKER')")
   public ResponseEntity<ApiResponse<Page<ApplicationDTO>>> getMyApplications(
+      @RequestParam(required = false) ApplicationStatus status,
       @PageableDefault(size = 10, sort = "appliedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-    return ResponseEntity.ok(ApiResponse.success(applicationService.getMyApplications(pageable)));
+    return ResponseEntity.ok(ApiResponse.success(applicationService.getMyApplications(status, pageable)));
   }
 
   @GetMapping("/job/{jobId}")
@@ -47,6 +64,20 @@ public class ApplicationController {
     return ResponseEntity.ok(ApiResponse.success(applicationService.getApplicationsForJob(jobId, pageable)));
   }
 
+  @GetMapping("/job/{jobId}/export")
+  @PreAuthorize("hasRole('RECRUITER')")
+  public ResponseEntity<StreamingResponseBody> exportApplicationsForJob(
+      @PathVariable Long jobId,
+      @RequestParam(defaultValue = "csv") String format) {
+    ApplicationExportService.Format exportFormat = ApplicationExportService.Format.from(format);
+    StreamingResponseBody body = applicationExportService.exportApplicationsForJob(jobId, exportFormat);
+    String filename = "job-" + jobId + "-applications." + exportFormat.extension();
+    return ResponseEntity.ok()
+        .contentType(exportFormat.mediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+
   @PatchMapping("/{id}/status")
   @PreAuthorize("hasRole('RECRUITER')")
   public ResponseEntity<ApiResponse<ApplicationDTO>> updateApplicationStatus(
@@ -57,6 +88,14 @@ public class ApplicationController {
     return ResponseEntity.ok(ApiResponse.success("Application status updated", application));
   }
 
+  @PatchMapping("/bulk-status")
+  @PreAuthorize("hasRole('RECRUITER')")
+  public ResponseEntity<ApiResponse<Integer>> bulkUpdateApplicationStatus(
+      @Valid @RequestBody BulkStatusUpdateRequest request) {
+    int updated = applicationService.bulkUpdateApplicationStatus(request);
+    return ResponseEntity.ok(ApiResponse.success(updated + " applications updated", updated));
+  }
+
   @DeleteMapping("/{id}")
   @PreAuthorize("hasRole('SEEKER')")
   public ResponseEntity<ApiResponse<Void>> withdrawApplication(@PathVariable Long id) {
@@ -1,20 +1,37 @@
 package com.alec.FindJobApp.controller;
 
 import com.alec.FindJobApp.dto.ApiResponse;
+import com.alec.FindJobApp.dto.CursorPage;
+import com.alec.FindJobApp.dto.FacetedJobPage;
 import com.alec.FindJobApp.dto.JobDTO;
+import com.alec.FindJobApp.dto.JobFacetQuery;
+import com.alec.FindJobApp.dto.JobPipelineDTO;
 import com.alec.FindJobApp.dto.JobRequest;
+import com.alec.FindJobApp.dto.JobSearchCriteria;
+import com.alec.FindJobApp.dto.JobSuggestion;
+import com.alec.FindJobApp.dto.JobVersion;
 import com.alec.FindJobApp.model.JobStatus;
 import com.alec.FindJobApp.model.JobType;
+import com.alec.FindJobApp.model.SalaryBand;
 import com.alec.FindJobApp.service.JobService;
+import com.alec.FindJobApp.service.JobRecommendationService;
+import com.alec.FindJobApp.service.JobSuggestionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -22,36 +39,111 @@ import org.springframework.web.bind.annotation.*;
 public class JobController {
 
   private final JobService jobService;
+  private final JobSuggestionService jobSuggestionService;
+  private final JobRecommendationService jobRecommendationService;
 
   @GetMapping
   public ResponseEntity<ApiResponse<Page<JobDTO>>> getAllJobs(
-      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-    return ResponseEntity.ok(ApiResponse.success(jobService.getAllJobs(pageable)));
+      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+      WebRequest webRequest) {
+    return conditionalPage(webRequest, jobService.getAllJobs(pageable));
+  }
+
+  @GetMapping("/query")
+  public ResponseEntity<ApiResponse<Page<JobDTO>>> queryJobs(
+      @ModelAttribute JobSearchCriteria criteria,
+      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+      WebRequest webRequest) {
+    return conditionalPage(webRequest, jobService.queryJobs(criteria, pageable));
+  }
+
+  @GetMapping("/suggest")
+  public ResponseEntity<ApiResponse<List<JobSuggestion>>> suggest(
+      @RequestParam String prefix,
+      @RequestParam(defaultValue = "10") int limit) {
+    return ResponseEntity.ok(ApiResponse.success(jobSuggestionService.suggest(prefix, limit)));
+  }
+
+  @GetMapping("/recommended")
+  @PreAuthorize("hasRole('SEEKER')")
+  public ResponseEntity<ApiResponse<List<JobDTO>>> getRecommendedJobs(
+      @RequestParam(defaultValue = "10") int limit) {
+    return ResponseEntity.ok(ApiResponse.success(jobRecommendationService.getRecommendedJobs(limit)));
+  }
+
+  @GetMapping("/search/facets")
+  public ResponseEntity<ApiResponse<FacetedJobPage>> searchJobsWithFacets(
+      @RequestParam(required = false) String keyword,
+      @RequestParam(required = false) JobType jobType,
+      @RequestParam(required = false) String location,
+      @RequestParam(required = false) SalaryBand salaryBand,
+      @PageableDefault(size = 10) Pageable pageable,
+      WebRequest webRequest) {
+    FacetedJobPage page = jobService.searchJobsWithFacets(
+        new JobFacetQuery(keyword, jobType, location, salaryBand), pageable);
+    Page<JobDTO> results = page.getResults();
+    String etag = listingEtag(results.getContent(), results.getNumber() + ":" + results.getSize() + ":"
+        + results.getTotalElements() + ":" + page.getJobTypes() + page.getLocations() + page.getSalaryBands());
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(ApiResponse.success(page));
   }
 
   @GetMapping("/open")
   public ResponseEntity<ApiResponse<Page<JobDTO>>> getOpenJobs(
-      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-    return ResponseEntity.ok(ApiResponse.success(jobService.getOpenJobs(pageable)));
+      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+      WebRequest webRequest) {
+    return conditionalPage(webRequest, jobService.getOpenJobs(pageable));
   }
 
   @GetMapping("/search")
   public ResponseEntity<ApiResponse<Page<JobDTO>>> searchJobs(
       @RequestParam String keyword,
-      @PageableDefault(size = 10) Pageable pageable) {
-    return ResponseEntity.ok(ApiResponse.success(jobService.searchJobs(keyword, pageable)));
+      @PageableDefault(size = 10) Pageable pageable,
+      WebRequest webRequest) {
+    return conditionalPage(webRequest, jobService.searchJobs(keyword, pageable));
   }
 
   @GetMapping("/open/filter")
   public ResponseEntity<ApiResponse<Page<JobDTO>>> getOpenJobsByType(
       @RequestParam(required = false) JobType jobType,
-      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-    return ResponseEntity.ok(ApiResponse.success(jobService.getOpenJobsByType(jobType, pageable)));
+      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+      WebRequest webRequest) {
+    return conditionalPage(webRequest, jobService.getOpenJobsByType(jobType, pageable));
+  }
+
+  @GetMapping("/open/cursor")
+  public ResponseEntity<ApiResponse<CursorPage<JobDTO>>> getOpenJobsByCursor(
+      @RequestParam(required = false) JobType jobType,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      WebRequest webRequest) {
+    CursorPage<JobDTO> page = jobService.getOpenJobsByCursor(jobType, cursor, size);
+    String etag = listingEtag(page.getContent(), page.isHasNext() + ":" + page.getNextCursor());
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(ApiResponse.success(page));
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<ApiResponse<JobDTO>> getJobById(@PathVariable Long id) {
-    return ResponseEntity.ok(ApiResponse.success(jobService.getJobDTOById(id)));
+  public ResponseEntity<ApiResponse<JobDTO>> getJobById(@PathVariable Long id, WebRequest webRequest) {
+    JobVersion version = jobService.getJobVersion(id);
+    String etag = "\"job-" + version.id() + "-" + version.applicationCount() + "-"
+        + (version.updatedAt() != null ? version.updatedAt().toString() : "0") + "\"";
+    long lastModified = version.updatedAt() != null
+        ? version.updatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+        : -1;
+    if (webRequest.checkNotModified(etag, lastModified)) {
+      return null;
+    }
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache());
+    if (lastModified >= 0) {
+      response.lastModified(lastModified);
+    }
+    return response.body(ApiResponse.success(jobService.getJobDTOById(id)));
   }
 
   @PostMapping
@@ -61,11 +153,18 @@ public class JobController {
     return ResponseEntity.ok(ApiResponse.success("Job created successfully", job));
   }
 
+  @GetMapping("/my-jobs/pipeline")
+  @PreAuthorize("hasRole('RECRUITER')")
+  public ResponseEntity<ApiResponse<List<JobPipelineDTO>>> getMyJobsPipeline() {
+    return ResponseEntity.ok(ApiResponse.success(jobService.getMyJobsPipeline()));
+  }
+
   @GetMapping("/my-jobs")
   @PreAuthorize("hasRole('RECRUITER')")
   public ResponseEntity<ApiResponse<Page<JobDTO>>> getMyJobs(
-      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-    return ResponseEntity.ok(ApiResponse.success(jobService.getMyJobs(pageable)));
+      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+      WebRequest webRequest) {
+    return conditionalPage(webRequest, jobService.getMyJobs(pageable));
   }
 
   @PutMapping("/{id}")
@@ -92,4 +191,26 @@ public class JobController {
     jobService.deleteJob(id);
     return ResponseEntity.ok(ApiResponse.success("Job deleted successfully", null));
   }
+
+  // Listing ETags hash the identity and version of every row plus the page metadata, so a 304
+  // is returned before the page is serialized. Listings carry no Last-Modified header because
+  // a deleted row would not move the newest timestamp forward.
+  private ResponseEntity<ApiResponse<Page<JobDTO>>> conditionalPage(WebRequest webRequest, Page<JobDTO> page) {
+    String etag = listingEtag(page.getContent(),
+        page.getNumber() + ":" + page.getSize() + ":" + page.getTotalElements() + ":" + page.getSort());
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(ApiResponse.success(page));
+  }
+
+  private String listingEtag(List<JobDTO> jobs, String pageState) {
+    StringBuilder state = new StringBuilder(pageState);
+    for (JobDTO job : jobs) {
+      state.append('|').append(job.getId())
+          .append(':').append(job.getUpdatedAt())
+          .append(':').append(job.getApplicationCount());
+    }
+    return "\"" + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
 }
@@ -1,11 +1,14 @@
 package com.alec.FindJobApp.controller;
 
 import com.alec.FindJobApp.dto.ApiResponse;
+import com.alec.FindJobApp.dto.ProfileDTO;
 import com.alec.FindJobApp.dto.ProfileResponse;
 import com.alec.FindJobApp.dto.ProfileUpdateRequest;
 import com.alec.FindJobApp.model.User;
 import com.alec.FindJobApp.repository.UserRepository;
+import com.alec.FindJobApp.service.JobRecommendationService;
 import com.alec.FindJobApp.service.OtpService;
+import com.alec.FindJobApp.service.ProfileService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +23,8 @@ public class ProfileController {
 
   private final UserRepository userRepository;
   private final OtpService otpService;
+  private final JobRecommendationService jobRecommendationService;
+  private final ProfileService profileService;
 
   @GetMapping
   public ResponseEntity<ApiResponse<ProfileResponse>> getProfile(
@@ -53,7 +58,8 @@ public class ProfileController {
     if (request.getCompany() != null) {
       user.setCompany(request.getCompany());
     }
-    if (request.getLocation() != null) {
+    boolean locationChanged = request.getLocation() != null && !request.getLocation().equals(user.getLocation());
+    if (locationChanged) {
       user.setLocation(request.getLocation());
     }
     if (request.getLinkedinUrl() != null) {
@@ -61,10 +67,26 @@ public class ProfileController {
     }
 
     user = userRepository.save(user);
+    if (locationChanged) {
+      jobRecommendationService.evict(user.getId());
+    }
     ProfileResponse profile = mapToProfileResponse(user);
     return ResponseEntity.ok(ApiResponse.success("Profile updated", profile));
   }
 
+  /**
+   * Skills, experience and the other profile details used for match scores and recommendations.
+   */
+  @GetMapping("/details")
+  public ResponseEntity<ApiResponse<ProfileDTO>> getProfileDetails() {
+    return ResponseEntity.ok(ApiResponse.success("Profile details retrieved", profileService.getMyProfile()));
+  }
+
+  @PutMapping("/details")
+  public ResponseEntity<ApiResponse<ProfileDTO>> updateProfileDetails(@RequestBody ProfileDTO request) {
+    return ResponseEntity.ok(ApiResponse.success("Profile details updated", profileService.updateProfile(request)));
+  }
+
   @PostMapping("/2fa/enable")
   public ResponseEntity<ApiResponse<Void>> enable2FA(
       @AuthenticationPrincipal UserDetails userDetails) {
@@ -0,0 +1,4 @@
+package com.alec.FindJobApp.dto;
+
+public record AccountState(int tokenVersion, boolean active) {
+}
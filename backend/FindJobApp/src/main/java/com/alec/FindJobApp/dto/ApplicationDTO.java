@@ -27,4 +27,5 @@ public class ApplicationDTO {
   private LocalDateTime appliedAt;
   private LocalDateTime reviewedAt;
   private String reviewerNotes;
+  private Float matchScore;
 }
@@ -0,0 +1,27 @@
+package com.alec.FindJobApp.dto;
+
+import com.alec.FindJobApp.model.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+  @NotEmpty(message = "At least one application id is required")
+  @Size(max = 500, message = "At most 500 applications can be updated at once")
+  private List<@NotNull Long> applicationIds;
+
+  @NotNull(message = "Status is required")
+  private ApplicationStatus status;
+
+  @Size(max = 2000, message = "Reviewer notes must not exceed 2000 characters")
+  private String reviewerNotes;
+}
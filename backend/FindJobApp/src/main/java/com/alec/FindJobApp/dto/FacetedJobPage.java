@@ -0,0 +1,21 @@
+package com.alec.FindJobApp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedJobPage {
+
+  private Page<JobDTO> results;
+  private Map<String, Long> jobTypes;
+  private Map<String, Long> locations;
+  private Map<String, Long> salaryBands;
+}
@@ -0,0 +1,29 @@
+package com.alec.FindJobApp.dto;
+
+import com.alec.FindJobApp.model.JobType;
+import com.alec.FindJobApp.model.SalaryBand;
+
+import java.util.Locale;
+
+/**
+ * Faceted search over open jobs. Every field is optional; a blank keyword matches all open jobs.
+ */
+public record JobFacetQuery(String keyword, JobType jobType, String location, SalaryBand salaryBand) {
+
+  public JobFacetQuery {
+    keyword = keyword == null || keyword.isBlank() ? null : keyword.trim();
+    location = normalizeLocation(location);
+  }
+
+  /**
+   * Location facet key: the part before the first comma, trimmed and lower-cased, so
+   * "Kigali", "kigali " and "Kigali, Rwanda" fall into the same bucket.
+   */
+  public static String normalizeLocation(String location) {
+    if (location == null) {
+      return null;
+    }
+    String key = location.split(",", 2)[0].trim().toLowerCase(Locale.ROOT);
+    return key.isEmpty() ? null : key;
+  }
+}
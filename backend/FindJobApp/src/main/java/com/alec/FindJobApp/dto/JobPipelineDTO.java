@@ -0,0 +1,25 @@
+package com.alec.FindJobApp.dto;
+
+import com.alec.FindJobApp.model.ApplicationStatus;
+import com.alec.FindJobApp.model.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPipelineDTO {
+
+  private Long jobId;
+  private String title;
+  private JobStatus status;
+  private LocalDateTime createdAt;
+  private Map<ApplicationStatus, Long> counts;
+  private long total;
+}
@@ -0,0 +1,33 @@
+package com.alec.FindJobApp.dto;
+
+import com.alec.FindJobApp.model.JobStatus;
+import com.alec.FindJobApp.model.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Optional filters for {@code GET /api/jobs/query}. Unset fields do not constrain the result;
+ * status defaults to {@code OPEN}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchCriteria {
+
+  private JobStatus status;
+  private JobType jobType;
+  private BigDecimal minSalary;
+  private BigDecimal maxSalary;
+  private String location;
+  private Long recruiterId;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+  private LocalDate postedSince;
+}
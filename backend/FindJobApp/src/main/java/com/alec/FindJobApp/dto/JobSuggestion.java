@@ -0,0 +1,8 @@
+package com.alec.FindJobApp.dto;
+
+/**
+ * A typeahead suggestion. {@code field} is {@code title}, {@code company} or {@code location};
+ * {@code count} is the number of open jobs carrying the value.
+ */
+public record JobSuggestion(String text, String field, int count) {
+}
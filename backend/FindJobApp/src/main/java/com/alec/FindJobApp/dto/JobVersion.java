@@ -0,0 +1,6 @@
+package com.alec.FindJobApp.dto;
+
+import java.time.LocalDateTime;
+
+public record JobVersion(Long id, LocalDateTime updatedAt, int applicationCount) {
+}
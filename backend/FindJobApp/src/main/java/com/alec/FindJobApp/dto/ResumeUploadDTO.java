@@ -0,0 +1,20 @@
+package com.alec.FindJobApp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeUploadDTO {
+
+  private String uploadId;
+  private String filename;
+  private long size;
+  private LocalDateTime expiresAt;
+}
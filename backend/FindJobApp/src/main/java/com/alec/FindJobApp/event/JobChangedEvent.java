@@ -0,0 +1,11 @@
+package com.alec.FindJobApp.event;
+
+public record JobChangedEvent(Long jobId, ChangeType changeType) {
+
+  public enum ChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+  }
+}
@@ -59,4 +59,7 @@ public class Application {
 
   @Column(name = "reviewer_notes", columnDefinition = "TEXT")
   private String reviewerNotes;
+
+  @Column(name = "match_score")
+  private Float matchScore;
 }
@@ -73,6 +73,12 @@ public class Job {
   @Builder.Default
   private List<Application> applications = new ArrayList<>();
 
+  // Maintained with atomic UPDATE statements (see JobRepository), never written by entity saves.
+  @Column(name = "application_count", nullable = false, insertable = false, updatable = false,
+      columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+  @Builder.Default
+  private int applicationCount = 0;
+
   @CreationTimestamp
   @Column(name = "created_at", updatable = false)
   private LocalDateTime createdAt;
@@ -80,8 +86,4 @@ public class Job {
   @UpdateTimestamp
   @Column(name = "updated_at")
   private LocalDateTime updatedAt;
-
-  public int getApplicationCount() {
-    return applications != null ? applications.size() : 0;
-  }
 }
@@ -0,0 +1,10 @@
+package com.alec.FindJobApp.model;
+
+public enum OutboxEventType {
+  APPLICATION_STATUS_CHANGED,
+  USER_REGISTERED,
+  PASSWORD_RESET_REQUESTED,
+  OTP_ISSUED,
+  RECRUITER_APPROVED,
+  RECRUITER_REJECTED
+}
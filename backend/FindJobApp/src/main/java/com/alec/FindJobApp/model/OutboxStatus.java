@@ -0,0 +1,6 @@
+package com.alec.FindJobApp.model;
+
+public enum OutboxStatus {
+  PENDING,
+  FAILED
+}
@@ -0,0 +1,50 @@
+package com.alec.FindJobApp.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * A resume written to disk ahead of an application. The id is the handle handed back to the
+ * client; applying consumes the row, and rows that expire unclaimed are swept with their files.
+ */
+@Entity
+@Table(name = "resume_uploads", indexes = {
+    @Index(name = "idx_resume_uploads_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeUpload {
+
+  @Id
+  @Column(length = 36)
+  private String id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "seeker_id", nullable = false)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private User seeker;
+
+  @Column(name = "stored_path", nullable = false)
+  private String storedPath;
+
+  @Column(name = "original_filename")
+  private String originalFilename;
+
+  @Column(name = "size_bytes", nullable = false)
+  private long sizeBytes;
+
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
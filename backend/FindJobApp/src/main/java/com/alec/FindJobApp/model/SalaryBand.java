@@ -0,0 +1,37 @@
+package com.alec.FindJobApp.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Salary buckets used for search facets. Lower bounds are inclusive, upper bounds exclusive.
+ * The SQL in {@code JobRepository.SALARY_BAND_SQL} must use the same boundaries.
+ */
+public enum SalaryBand {
+  UNDER_30K(null, new BigDecimal("30000")),
+  FROM_30K_TO_60K(new BigDecimal("30000"), new BigDecimal("60000")),
+  FROM_60K_TO_100K(new BigDecimal("60000"), new BigDecimal("100000")),
+  OVER_100K(new BigDecimal("100000"), null),
+  UNSPECIFIED(null, null);
+
+  private final BigDecimal min;
+  private final BigDecimal max;
+
+  SalaryBand(BigDecimal min, BigDecimal max) {
+    this.min = min;
+    this.max = max;
+  }
+
+  public static SalaryBand of(BigDecimal salary) {
+    if (salary == null) {
+      return UNSPECIFIED;
+    }
+    for (SalaryBand band : values()) {
+      if (band != UNSPECIFIED
+          && (band.min == null || salary.compareTo(band.min) >= 0)
+          && (band.max == null || salary.compareTo(band.max) < 0)) {
+        return band;
+      }
+    }
+    return UNSPECIFIED;
+  }
+}
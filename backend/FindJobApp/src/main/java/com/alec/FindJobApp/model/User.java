@@ -73,6 +73,13 @@ public class User {
   @Builder.Default
   private String provider = "local";
 
+  /**
+   * Embedded in issued tokens; bumping it revokes every token issued before.
+   */
+  @Column(name = "token_version", nullable = false, columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+  @Builder.Default
+  private int tokenVersion = 0;
+
   @Column(name = "provider_id")
   private String providerId;
 
@@ -105,6 +112,10 @@ public class User {
     return provider != null && !provider.equals("local");
   }
 
+  public void revokeTokens() {
+    tokenVersion++;
+  }
+
   public boolean requiresApproval() {
     return role == Role.RECRUITER && (isApproved == null || !isApproved);
   }
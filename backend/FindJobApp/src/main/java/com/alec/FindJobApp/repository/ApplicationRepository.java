@@ -1,5 +1,6 @@
 package com.alec.FindJobApp.repository;
 
+import com.alec.FindJobApp.dto.ApplicationDTO;
 import com.alec.FindJobApp.model.Application;
 import com.alec.FindJobApp.model.ApplicationStatus;
 import com.alec.FindJobApp.model.Job;
@@ -7,13 +8,27 @@ import com.alec.FindJobApp.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
+  // Listing projection: job and seeker columns are joined in the same statement instead of
+  // initializing the lazy associations row by row.
+  String APPLICATION_DTO_SELECT = "SELECT new com.alec.FindJobApp.dto.ApplicationDTO(" +
+      "a.id, j.id, j.title, j.company, s.id, CONCAT(s.firstName, ' ', s.lastName), s.email, " +
+      "a.status, a.coverLetter, a.resumeFilename, a.appliedAt, a.reviewedAt, a.reviewerNotes, a.matchScore) " +
+      "FROM Application a JOIN a.job j JOIN a.seeker s ";
+
   Page<Application> findBySeeker(User seeker, Pageable pageable);
 
   Page<Application> findByJob(Job job, Pageable pageable);
@@ -29,4 +44,80 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
   long countByJob(Job job);
 
   long countBySeeker(User seeker);
+
+  @Query(value = APPLICATION_DTO_SELECT + "WHERE s.id = :seekerId",
+      countQuery = "SELECT COUNT(a) FROM Application a WHERE a.seeker.id = :seekerId")
+  Page<ApplicationDTO> findApplicationDTOsBySeekerId(@Param("seekerId") Long seekerId, Pageable pageable);
+
+  @Query(value = APPLICATION_DTO_SELECT + "WHERE s.id = :seekerId AND a.status = :status",
+      countQuery = "SELECT COUNT(a) FROM Application a WHERE a.seeker.id = :seekerId AND a.status = :status")
+  Page<ApplicationDTO> findApplicationDTOsBySeekerIdAndStatus(@Param("seekerId") Long seekerId,
+                                                              @Param("status") ApplicationStatus status,
+                                                              Pageable pageable);
+
+  @Query(value = APPLICATION_DTO_SELECT + "WHERE j.id = :jobId",
+      countQuery = "SELECT COUNT(a) FROM Application a WHERE a.job.id = :jobId")
+  Page<ApplicationDTO> findApplicationDTOsByJobId(@Param("jobId") Long jobId, Pageable pageable);
+
+  @Query(APPLICATION_DTO_SELECT)
+  List<ApplicationDTO> findRecentApplicationDTOs(Pageable pageable);
+
+  @Query(APPLICATION_DTO_SELECT + "WHERE a.id IN :ids")
+  List<ApplicationDTO> findApplicationDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query(APPLICATION_DTO_SELECT + "WHERE a.id IN :ids AND j.recruiter.id = :recruiterId")
+  List<ApplicationDTO> findApplicationDTOsByIdInAndRecruiterId(@Param("ids") Collection<Long> ids,
+                                                              @Param("recruiterId") Long recruiterId);
+
+  @Modifying
+  @Query("UPDATE Application a SET a.status = :status, a.reviewedAt = :now, a.updatedAt = :now, " +
+      "a.reviewerNotes = COALESCE(:notes, a.reviewerNotes) WHERE a.id IN :ids")
+  int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                         @Param("status") ApplicationStatus status,
+                         @Param("notes") String notes,
+                         @Param("now") LocalDateTime now);
+
+  /**
+   * Inserts a PENDING application only if the job is OPEN and the seeker has not applied yet,
+   * and bumps the job's application count, all in one statement. Returns nothing when the job
+   * is missing or closed, or when the (job_id, seeker_id) unique constraint already holds a row.
+   */
+  @Transactional
+  @Query(value = "WITH inserted AS (" +
+      "INSERT INTO applications (job_id, seeker_id, status, cover_letter, resume_path, resume_filename, " +
+      "applied_at, updated_at) " +
+      "SELECT j.id, :seekerId, 'PENDING', :coverLetter, :resumePath, :resumeFilename, :now, :now " +
+      "FROM jobs j WHERE j.id = :jobId AND j.status = 'OPEN' " +
+      "ON CONFLICT (job_id, seeker_id) DO NOTHING " +
+      "RETURNING id, job_id), " +
+      "counted AS (" +
+      "UPDATE jobs SET application_count = application_count + 1 " +
+      "WHERE id IN (SELECT job_id FROM inserted)) " +
+      "SELECT i.id AS id, j.title AS jobTitle, j.company AS company " +
+      "FROM inserted i JOIN jobs j ON j.id = i.job_id",
+      nativeQuery = true)
+  Optional<InsertedApplication> insertIfOpenAndAbsent(@Param("jobId") Long jobId,
+                                                      @Param("seekerId") Long seekerId,
+                                                      @Param("coverLetter") String coverLetter,
+                                                      @Param("resumePath") String resumePath,
+                                                      @Param("resumeFilename") String resumeFilename,
+                                                      @Param("now") LocalDateTime now);
+
+  /**
+   * Deletes every application of a seeker and takes them off their jobs' application counts.
+   */
+  @Modifying
+  @Query(value = "WITH removed AS (DELETE FROM applications WHERE seeker_id = :seekerId RETURNING job_id) " +
+      "UPDATE jobs j SET application_count = GREATEST(j.application_count - r.removed, 0) " +
+      "FROM (SELECT job_id, COUNT(*) AS removed FROM removed GROUP BY job_id) r WHERE j.id = r.job_id",
+      nativeQuery = true)
+  int deleteBySeekerId(@Param("seekerId") Long seekerId);
+
+  interface InsertedApplication {
+    Long getId();
+
+    String getJobTitle();
+
+    String getCompany();
+  }
 }
@@ -0,0 +1,52 @@
+package com.alec.FindJobApp.repository;
+
+import com.alec.FindJobApp.model.FileTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FileTombstoneRepository extends JpaRepository<FileTombstone, Long> {
+
+  @Modifying
+  @Query(value = "INSERT INTO file_tombstones (path, created_at) " +
+      "SELECT a.resume_path, CAST(:now AS TIMESTAMP) FROM applications a " +
+      "WHERE a.job_id = :jobId AND a.resume_path IS NOT NULL",
+      nativeQuery = true)
+  int insertForJobApplications(@Param("jobId") Long jobId, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query(value = "INSERT INTO file_tombstones (path, created_at) " +
+      "SELECT a.resume_path, CAST(:now AS TIMESTAMP) FROM applications a WHERE a.seeker_id = :userId AND a.resume_path IS NOT NULL " +
+      "UNION ALL " +
+      "SELECT r.stored_path, CAST(:now AS TIMESTAMP) FROM resume_uploads r WHERE r.seeker_id = :userId " +
+      "UNION ALL " +
+      "SELECT p.profile_picture_path, CAST(:now AS TIMESTAMP) FROM profiles p " +
+      "WHERE p.user_id = :userId AND p.profile_picture_path IS NOT NULL",
+      nativeQuery = true)
+  int insertForUserFiles(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+  /**
+   * Removes up to {@code limit} tombstones and returns their paths. Concurrent workers skip
+   * each other's rows instead of waiting on them.
+   */
+  @Transactional
+  @Query(value = "DELETE FROM file_tombstones WHERE id IN (" +
+      "SELECT id FROM file_tombstones ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+      "RETURNING path",
+      nativeQuery = true)
+  List<String> claimBatch(@Param("limit") int limit);
+
+  @Query(value = "SELECT a.resume_path FROM applications a WHERE a.resume_path IN :paths " +
+      "UNION SELECT r.stored_path FROM resume_uploads r WHERE r.stored_path IN :paths " +
+      "UNION SELECT p.profile_picture_path FROM profiles p WHERE p.profile_picture_path IN :paths",
+      nativeQuery = true)
+  List<String> findReferencedPaths(@Param("paths") Collection<String> paths);
+}
@@ -1,18 +1,45 @@
 package com.alec.FindJobApp.repository;
 
+import com.alec.FindJobApp.dto.JobDTO;
+import com.alec.FindJobApp.dto.JobVersion;
 import com.alec.FindJobApp.model.Job;
 import com.alec.FindJobApp.model.JobStatus;
 import com.alec.FindJobApp.model.JobType;
 import com.alec.FindJobApp.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
+
+  // Listing projection: the recruiter name is joined in the same statement, so a page never
+  // touches the lazy recruiter or applications associations.
+  String JOB_DTO_SELECT = "SELECT new com.alec.FindJobApp.dto.JobDTO(" +
+      "j.id, j.title, j.description, j.company, j.location, j.salary, j.jobType, j.status, " +
+      "j.requirements, j.benefits, r.id, CONCAT(r.firstName, ' ', r.lastName), " +
+      "j.applicationCount, " +
+      "j.createdAt, j.updatedAt) " +
+      "FROM Job j JOIN j.recruiter r ";
+
+  // The recruiter is fetched in the same statement; toDTO needs its name.
+  @Override
+  @EntityGraph(attributePaths = "recruiter")
+  Page<Job> findAll(Specification<Job> spec, Pageable pageable);
 
   Page<Job> findByRecruiter(User recruiter, Pageable pageable);
 
@@ -20,11 +47,56 @@ public interface JobRepository extends JpaRepository<Job, Long> {
 
   Page<Job> findByJobType(JobType jobType, Pageable pageable);
 
-  @Query("SELECT j FROM Job j WHERE " +
-      "LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-      "LOWER(j.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-      "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-  Page<Job> searchJobs(@Param("keyword") String keyword, Pageable pageable);
+  @Query(value = "SELECT j.id FROM jobs j, websearch_to_tsquery('english', :keyword) query " +
+      "WHERE j.search_vector @@ query " +
+      "ORDER BY ts_rank(j.search_vector, query) DESC, j.id DESC",
+      countQuery = "SELECT COUNT(*) FROM jobs j " +
+          "WHERE j.search_vector @@ websearch_to_tsquery('english', :keyword)",
+      nativeQuery = true)
+  Page<Long> fullTextSearchIds(@Param("keyword") String keyword, Pageable pageable);
+
+  // Facet expressions; LOCATION_KEY_SQL mirrors JobFacetQuery.normalizeLocation and
+  // SALARY_BAND_SQL mirrors the SalaryBand boundaries.
+  String LOCATION_KEY_SQL = "lower(btrim(split_part(j.location, ',', 1)))";
+
+  String SALARY_BAND_SQL = "CASE WHEN j.salary IS NULL THEN 'UNSPECIFIED' " +
+      "WHEN j.salary < 30000 THEN 'UNDER_30K' " +
+      "WHEN j.salary < 60000 THEN 'FROM_30K_TO_60K' " +
+      "WHEN j.salary < 100000 THEN 'FROM_60K_TO_100K' " +
+      "ELSE 'OVER_100K' END";
+
+  String FACET_FILTER_SQL = "FROM jobs j WHERE j.status = 'OPEN' " +
+      "AND (CAST(:keyword AS text) IS NULL OR j.search_vector @@ websearch_to_tsquery('english', :keyword)) " +
+      "AND (CAST(:jobType AS text) IS NULL OR j.job_type = :jobType) " +
+      "AND (CAST(:location AS text) IS NULL OR " + LOCATION_KEY_SQL + " = :location) " +
+      "AND (CAST(:salaryBand AS text) IS NULL OR " + SALARY_BAND_SQL + " = :salaryBand) ";
+
+  @Query(value = "SELECT j.id " + FACET_FILTER_SQL +
+      "ORDER BY CASE WHEN CAST(:keyword AS text) IS NULL THEN 0 " +
+      "ELSE ts_rank(j.search_vector, websearch_to_tsquery('english', :keyword)) END DESC, " +
+      "j.created_at DESC, j.id DESC",
+      countQuery = "SELECT COUNT(*) " + FACET_FILTER_SQL,
+      nativeQuery = true)
+  Page<Long> facetedSearchIds(@Param("keyword") String keyword,
+                              @Param("jobType") String jobType,
+                              @Param("location") String location,
+                              @Param("salaryBand") String salaryBand,
+                              Pageable pageable);
+
+  /**
+   * All three facets in one aggregate pass. Each row is (facet, value, count), where facet is
+   * one of {@code jobType}, {@code location} or {@code salaryBand}.
+   */
+  @Query(value = "SELECT CASE WHEN GROUPING(j.job_type) = 0 THEN 'jobType' " +
+      "WHEN GROUPING(" + LOCATION_KEY_SQL + ") = 0 THEN 'location' ELSE 'salaryBand' END AS facet, " +
+      "COALESCE(j.job_type, " + LOCATION_KEY_SQL + ", " + SALARY_BAND_SQL + ") AS value, " +
+      "COUNT(*) AS total " + FACET_FILTER_SQL +
+      "GROUP BY GROUPING SETS ((j.job_type), (" + LOCATION_KEY_SQL + "), (" + SALARY_BAND_SQL + "))",
+      nativeQuery = true)
+  List<Object[]> countFacets(@Param("keyword") String keyword,
+                             @Param("jobType") String jobType,
+                             @Param("location") String location,
+                             @Param("salaryBand") String salaryBand);
 
   Page<Job> findByStatusOrderByCreatedAtDesc(JobStatus status, Pageable pageable);
 
@@ -33,4 +105,91 @@ public interface JobRepository extends JpaRepository<Job, Long> {
   long countByRecruiter(User recruiter);
 
   Page<Job> findByStatusAndJobType(JobStatus status, JobType jobType, Pageable pageable);
+
+  @Query(value = JOB_DTO_SELECT,
+      countQuery = "SELECT COUNT(j) FROM Job j")
+  Page<JobDTO> findAllJobDTOs(Pageable pageable);
+
+  @Query(value = JOB_DTO_SELECT + "WHERE j.status = :status ORDER BY j.createdAt DESC",
+      countQuery = "SELECT COUNT(j) FROM Job j WHERE j.status = :status")
+  Page<JobDTO> findJobDTOsByStatus(@Param("status") JobStatus status, Pageable pageable);
+
+  @Query(value = JOB_DTO_SELECT + "WHERE j.status = :status AND j.jobType = :jobType",
+      countQuery = "SELECT COUNT(j) FROM Job j WHERE j.status = :status AND j.jobType = :jobType")
+  Page<JobDTO> findJobDTOsByStatusAndJobType(
+      @Param("status") JobStatus status,
+      @Param("jobType") JobType jobType,
+      Pageable pageable);
+
+  @Query(value = JOB_DTO_SELECT + "WHERE r.id = :recruiterId",
+      countQuery = "SELECT COUNT(j) FROM Job j WHERE j.recruiter.id = :recruiterId")
+  Page<JobDTO> findJobDTOsByRecruiterId(@Param("recruiterId") Long recruiterId, Pageable pageable);
+
+  @Query(JOB_DTO_SELECT + "WHERE j.id IN :ids")
+  List<JobDTO> findJobDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query(JOB_DTO_SELECT + "WHERE j.status = :status ORDER BY j.createdAt DESC, j.id DESC")
+  Slice<JobDTO> findJobDTOSliceByStatus(@Param("status") JobStatus status, Pageable pageable);
+
+  @Query(JOB_DTO_SELECT + "WHERE j.status = :status AND j.jobType = :jobType " +
+      "ORDER BY j.createdAt DESC, j.id DESC")
+  Slice<JobDTO> findJobDTOSliceByStatusAndJobType(
+      @Param("status") JobStatus status,
+      @Param("jobType") JobType jobType,
+      Pageable pageable);
+
+  @Query(JOB_DTO_SELECT + "WHERE j.status = :status " +
+      "AND (j.createdAt, j.id) < (:createdAt, :id) " +
+      "ORDER BY j.createdAt DESC, j.id DESC")
+  Slice<JobDTO> findJobDTOSliceByStatusAfterCursor(
+      @Param("status") JobStatus status,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  @Query(JOB_DTO_SELECT + "WHERE j.status = :status AND j.jobType = :jobType " +
+      "AND (j.createdAt, j.id) < (:createdAt, :id) " +
+      "ORDER BY j.createdAt DESC, j.id DESC")
+  Slice<JobDTO> findJobDTOSliceByStatusAndJobTypeAfterCursor(
+      @Param("status") JobStatus status,
+      @Param("jobType") JobType jobType,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  /**
+   * Application counts per (job, status) for one recruiter. Jobs without applications yield a
+   * single row with a null status and a zero count.
+   */
+  @Query("SELECT j.id, j.title, j.status, j.createdAt, a.status, COUNT(a.id) " +
+      "FROM Job j LEFT JOIN j.applications a " +
+      "WHERE j.recruiter.id = :recruiterId " +
+      "GROUP BY j.id, j.title, j.status, j.createdAt, a.status " +
+      "ORDER BY j.createdAt DESC, j.id DESC")
+  List<Object[]> countApplicationsByJobAndStatus(@Param("recruiterId") Long recruiterId);
+
+  @Query("SELECT j.recruiter.id FROM Job j WHERE j.id = :id")
+  Optional<Long> findRecruiterIdById(@Param("id") Long id);
+
+  @Query("SELECT new com.alec.FindJobApp.dto.JobVersion(j.id, j.updatedAt, j.applicationCount) " +
+      "FROM Job j WHERE j.id = :id")
+  Optional<JobVersion> findVersionById(@Param("id") Long id);
+
+  @Modifying
+  @Query(value = "UPDATE jobs SET application_count = GREATEST(application_count - 1, 0) WHERE id = :id",
+      nativeQuery = true)
+  int decrementApplicationCount(@Param("id") Long id);
+
+  @Query("SELECT COALESCE(MAX(j.id), 0) FROM Job j")
+  long findMaxId();
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE jobs j SET application_count = c.actual " +
+      "FROM (SELECT jc.id, COUNT(a.id) AS actual FROM jobs jc " +
+      "LEFT JOIN applications a ON a.job_id = jc.id " +
+      "WHERE jc.id >= :fromId AND jc.id < :toId GROUP BY jc.id) c " +
+      "WHERE j.id = c.id AND j.application_count <> c.actual",
+      nativeQuery = true)
+  int reconcileApplicationCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
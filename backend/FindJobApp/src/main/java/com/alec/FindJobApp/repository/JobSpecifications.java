@@ -0,0 +1,80 @@
+package com.alec.FindJobApp.repository;
+
+import com.alec.FindJobApp.dto.JobSearchCriteria;
+import com.alec.FindJobApp.model.Job;
+import com.alec.FindJobApp.model.JobStatus;
+import com.alec.FindJobApp.model.JobType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Composable filters over {@link Job}. {@link #matching(JobSearchCriteria)} combines the
+ * populated criteria into a single WHERE clause.
+ */
+public final class JobSpecifications {
+
+  private JobSpecifications() {
+  }
+
+  public static Specification<Job> matching(JobSearchCriteria criteria) {
+    List<Specification<Job>> specs = new ArrayList<>();
+    specs.add(hasStatus(criteria.getStatus() != null ? criteria.getStatus() : JobStatus.OPEN));
+    if (criteria.getJobType() != null) {
+      specs.add(hasJobType(criteria.getJobType()));
+    }
+    if (criteria.getMinSalary() != null) {
+      specs.add(salaryAtLeast(criteria.getMinSalary()));
+    }
+    if (criteria.getMaxSalary() != null) {
+      specs.add(salaryAtMost(criteria.getMaxSalary()));
+    }
+    if (criteria.getLocation() != null && !criteria.getLocation().isBlank()) {
+      specs.add(locationStartsWith(criteria.getLocation()));
+    }
+    if (criteria.getRecruiterId() != null) {
+      specs.add(postedBy(criteria.getRecruiterId()));
+    }
+    if (criteria.getPostedSince() != null) {
+      specs.add(postedSince(criteria.getPostedSince()));
+    }
+    return Specification.allOf(specs);
+  }
+
+  public static Specification<Job> hasStatus(JobStatus status) {
+    return (root, query, cb) -> cb.equal(root.get("status"), status);
+  }
+
+  public static Specification<Job> hasJobType(JobType jobType) {
+    return (root, query, cb) -> cb.equal(root.get("jobType"), jobType);
+  }
+
+  public static Specification<Job> salaryAtLeast(BigDecimal salary) {
+    return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("salary"), salary);
+  }
+
+  public static Specification<Job> salaryAtMost(BigDecimal salary) {
+    return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("salary"), salary);
+  }
+
+  // Prefix match on lower(location) so the text_pattern_ops index can serve it.
+  public static Specification<Job> locationStartsWith(String location) {
+    String pattern = location.trim().toLowerCase(Locale.ROOT)
+        .replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_") + "%";
+    return (root, query, cb) -> cb.like(cb.lower(root.get("location")), pattern, '\\');
+  }
+
+  public static Specification<Job> postedBy(Long recruiterId) {
+    return (root, query, cb) -> cb.equal(root.get("recruiter").get("id"), recruiterId);
+  }
+
+  public static Specification<Job> postedSince(LocalDate date) {
+    return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), date.atStartOfDay());
+  }
+}
@@ -0,0 +1,43 @@
+package com.alec.FindJobApp.repository;
+
+import com.alec.FindJobApp.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Leases up to {@code limit} due events by pushing their next attempt out to
+   * {@code leaseUntil}, and returns them. The lease commits straight away, so no lock is held
+   * while the mail is sent; rows locked by another dispatcher's lease are skipped.
+   */
+  @Transactional
+  @Query(value = "UPDATE outbox_events SET next_attempt_at = :leaseUntil WHERE id IN (" +
+      "SELECT id FROM outbox_events " +
+      "WHERE status = 'PENDING' AND next_attempt_at <= :now AND (expires_at IS NULL OR expires_at > :now) " +
+      "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+      "RETURNING *",
+      nativeQuery = true)
+  List<OutboxEvent> leaseDue(@Param("now") LocalDateTime now,
+                             @Param("leaseUntil") LocalDateTime leaseUntil,
+                             @Param("limit") int limit);
+
+  /**
+   * Removes events whose secret has expired, whatever their status, and parked failures older
+   * than the retention window.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "DELETE FROM outbox_events " +
+      "WHERE expires_at <= :now OR (status = 'FAILED' AND created_at < :failedBefore)",
+      nativeQuery = true)
+  int purge(@Param("now") LocalDateTime now, @Param("failedBefore") LocalDateTime failedBefore);
+}
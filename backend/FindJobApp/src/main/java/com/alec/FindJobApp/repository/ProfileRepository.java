@@ -15,4 +15,6 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
   Optional<Profile> findByUserId(Long userId);
 
   boolean existsByUser(User user);
+
+  void deleteByUser(User user);
 }
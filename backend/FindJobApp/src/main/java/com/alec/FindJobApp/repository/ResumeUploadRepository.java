@@ -0,0 +1,45 @@
+package com.alec.FindJobApp.repository;
+
+import com.alec.FindJobApp.model.ResumeUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResumeUploadRepository extends JpaRepository<ResumeUpload, String> {
+
+  /**
+   * Claims an unexpired upload owned by the seeker by deleting its row, so a handle can back at
+   * most one application. Runs in the caller's transaction; a rollback restores the handle.
+   */
+  @Transactional
+  @Query(value = "DELETE FROM resume_uploads " +
+      "WHERE id = :id AND seeker_id = :seekerId AND expires_at > :now " +
+      "RETURNING stored_path AS storedPath, original_filename AS originalFilename",
+      nativeQuery = true)
+  Optional<StagedResume> consume(@Param("id") String id,
+                                 @Param("seekerId") Long seekerId,
+                                 @Param("now") LocalDateTime now);
+
+  /**
+   * Deletes up to {@code limit} expired uploads and returns their stored paths for file cleanup.
+   */
+  @Transactional
+  @Query(value = "DELETE FROM resume_uploads WHERE id IN (" +
+      "SELECT id FROM resume_uploads WHERE expires_at <= :now LIMIT :limit) " +
+      "RETURNING stored_path",
+      nativeQuery = true)
+  List<String> deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  interface StagedResume {
+    String getStoredPath();
+
+    String getOriginalFilename();
+  }
+}
@@ -1,13 +1,16 @@
 package com.alec.FindJobApp.repository;
 
+import com.alec.FindJobApp.dto.AccountState;
 import com.alec.FindJobApp.model.Role;
 import com.alec.FindJobApp.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,8 +20,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   Optional<User> findByEmail(String email);
 
+  @Query("SELECT new com.alec.FindJobApp.dto.AccountState(u.tokenVersion, COALESCE(u.isActive, TRUE)) " +
+      "FROM User u WHERE u.id = :id")
+  Optional<AccountState> findAccountStateById(@Param("id") Long id);
+
   boolean existsByEmail(String email);
 
+  @Transactional
+  @Modifying
+  @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+  int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
   Page<User> findByRole(Role role, Pageable pageable);
 
   Page<User> findByIsActiveTrue(Pageable pageable);
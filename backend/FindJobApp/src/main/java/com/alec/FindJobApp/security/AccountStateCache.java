@@ -0,0 +1,60 @@
+package com.alec.FindJobApp.security;
+
+import com.alec.FindJobApp.dto.AccountState;
+import com.alec.FindJobApp.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of each account's token version and active flag, used to check claims-based
+ * tokens without loading the user. Local changes invalidate their entry after commit; the TTL
+ * bounds how long another instance can keep honouring a revoked token.
+ */
+@Component
+public class AccountStateCache {
+
+  private final UserRepository userRepository;
+  private final Cache<Long, Optional<AccountState>> cache;
+
+  public AccountStateCache(UserRepository userRepository,
+                           @Value("${app.jwt.account-state.ttl:30s}") Duration ttl,
+                           @Value("${app.jwt.account-state.max-size:10000}") long maxSize) {
+    this.userRepository = userRepository;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  public Optional<AccountState> get(Long userId) {
+    return cache.get(userId, userRepository::findAccountStateById);
+  }
+
+  /**
+   * Reloads the state from the database, for tokens newer than the cached version.
+   */
+  public Optional<AccountState> refresh(Long userId) {
+    cache.invalidate(userId);
+    return get(userId);
+  }
+
+  public void invalidate(Long userId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.invalidate(userId);
+        }
+      });
+    } else {
+      cache.invalidate(userId);
+    }
+  }
+}
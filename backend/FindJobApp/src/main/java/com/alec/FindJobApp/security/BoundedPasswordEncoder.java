@@ -0,0 +1,155 @@
+package com.alec.FindJobApp.security;
+
+import com.alec.FindJobApp.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt on a small dedicated pool with a bounded queue. A login or registration flood can then
+ * only occupy that pool's threads rather than every core, and once the queue is full further
+ * requests are turned away with a 503 instead of piling up behind it. Stored hashes whose cost
+ * differs from the configured strength are reported for re-encoding, which
+ * {@link org.springframework.security.authentication.dao.DaoAuthenticationProvider} does on the
+ * next successful login.
+ */
+@Component
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private final BCryptPasswordEncoder delegate;
+  private final int strength;
+  private final int queueCapacity;
+  private final Duration retryAfter;
+  private final ThreadPoolExecutor executor;
+
+  private final LongAdder hashes = new LongAdder();
+  private final LongAdder hashNanos = new LongAdder();
+  private final LongAdder queueWaitNanos = new LongAdder();
+  private final AtomicLong maxHashNanos = new AtomicLong();
+  private final LongAdder rejected = new LongAdder();
+
+  public BoundedPasswordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength,
+                                @Value("${app.security.password-hashing.threads:0}") int threads,
+                                @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                @Value("${app.security.password-hashing.retry-after:2s}") Duration retryAfter) {
+    this.delegate = new BCryptPasswordEncoder(strength);
+    this.strength = strength;
+    this.queueCapacity = queueCapacity;
+    this.retryAfter = retryAfter;
+
+    // Default to half the cores, leaving the rest for everything else the API serves.
+    int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger counter = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+          Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    log.info("Password hashing: bcrypt strength {}, {} threads, queue capacity {}", strength, poolSize, queueCapacity);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return run(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * True when the stored cost differs from the configured strength in either direction, so
+   * lowering the strength takes effect for existing users as well.
+   */
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+      return false;
+    }
+    try {
+      return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private <T> T run(Supplier<T> task) {
+    long submitted = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        long started = System.nanoTime();
+        queueWaitNanos.add(started - submitted);
+        try {
+          return task.get();
+        } finally {
+          long elapsed = System.nanoTime() - started;
+          hashes.increment();
+          hashNanos.add(elapsed);
+          maxHashNanos.accumulateAndGet(elapsed, Math::max);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw busy();
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw busy();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private ServiceUnavailableException busy() {
+    return new ServiceUnavailableException("Too many sign-in requests right now, please try again shortly", retryAfter);
+  }
+
+  public Map<String, Object> stats() {
+    long count = hashes.sum();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("strength", strength);
+    stats.put("threads", executor.getMaximumPoolSize());
+    stats.put("activeThreads", executor.getActiveCount());
+    stats.put("queueDepth", executor.getQueue().size());
+    stats.put("queueCapacity", queueCapacity);
+    stats.put("completed", count);
+    stats.put("rejected", rejected.sum());
+    stats.put("avgHashMillis", count == 0 ? 0.0 : hashNanos.sum() / 1e6 / count);
+    stats.put("maxHashMillis", maxHashNanos.get() / 1e6);
+    stats.put("avgQueueWaitMillis", count == 0 ? 0.0 : queueWaitNanos.sum() / 1e6 / count);
+    return stats;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+}
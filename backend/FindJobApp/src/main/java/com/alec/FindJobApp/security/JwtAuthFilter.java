@@ -1,5 +1,6 @@
 package com.alec.FindJobApp.security;
 
+import com.alec.FindJobApp.dto.AccountState;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,7 +8,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,13 +18,21 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
+/**
+ * Authenticates bearer tokens from their claims. Tokens carrying a user id are checked against
+ * the cached account state (token version, active flag) instead of loading the user; older
+ * tokens without those claims still go through {@link UserDetailsService}.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-  private final JwtUtils jwtUtils;
   private final UserDetailsService userDetailsService;
+  private final AccountStateCache accountStateCache;
+  private final VerifiedTokenCache verifiedTokenCache;
 
   @Override
   protected void doFilterInternal(
@@ -30,23 +41,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
       @NonNull FilterChain filterChain) throws ServletException, IOException {
 
     final String authHeader = request.getHeader("Authorization");
-    final String jwt;
-    final String userEmail;
 
     if (authHeader == null || !authHeader.startsWith("Bearer ")) {
       filterChain.doFilter(request, response);
       return;
     }
 
-    jwt = authHeader.substring(7);
+    final String jwt = authHeader.substring(7);
 
     try {
-      userEmail = jwtUtils.extractUsername(jwt);
+      VerifiedToken token = verifiedTokenCache.verify(jwt);
 
-      if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-        UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+      if (token.subject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        UserDetails userDetails = token.hasAccountClaims() ? fromClaims(token) : loadLegacy(token);
 
-        if (jwtUtils.validateToken(jwt, userDetails)) {
+        if (userDetails != null) {
           UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
               userDetails,
               null,
@@ -61,4 +70,30 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     filterChain.doFilter(request, response);
   }
+
+  private UserDetails fromClaims(VerifiedToken token) {
+    Integer tokenVersion = token.tokenVersion();
+    if (tokenVersion == null || !token.active()) {
+      return null;
+    }
+
+    Optional<AccountState> state = accountStateCache.get(token.userId());
+    if (state.isPresent() && state.get().tokenVersion() < tokenVersion) {
+      // Issued after the cached entry was loaded, possibly on another instance.
+      state = accountStateCache.refresh(token.userId());
+    }
+    if (state.isEmpty() || !state.get().active() || state.get().tokenVersion() != tokenVersion) {
+      return null;
+    }
+
+    return new User(token.subject(), "", List.of(new SimpleGrantedAuthority("ROLE_" + token.role())));
+  }
+
+  /**
+   * The token was verified above, so only the subject and account status are left to check.
+   */
+  private UserDetails loadLegacy(VerifiedToken token) {
+    UserDetails userDetails = userDetailsService.loadUserByUsername(token.subject());
+    return userDetails.isEnabled() ? userDetails : null;
+  }
 }
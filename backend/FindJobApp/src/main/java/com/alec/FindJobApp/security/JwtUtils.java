@@ -1,5 +1,6 @@
 package com.alec.FindJobApp.security;
 
+import com.alec.FindJobApp.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -11,40 +12,51 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
+/**
+ * Issues and verifies tokens. The signing key and parser are built once from the configured
+ * secret; both are immutable and safe to share across request threads.
+ */
 @Component
 public class JwtUtils {
 
-  @Value("${app.jwt.secret}")
-  private String jwtSecret;
+  public static final String CLAIM_USER_ID = "uid";
+  public static final String CLAIM_ROLE = "role";
+  public static final String CLAIM_TOKEN_VERSION = "ver";
+  public static final String CLAIM_ACTIVE = "active";
 
-  @Value("${app.jwt.expiration}")
-  private long jwtExpiration;
+  private final SecretKey signingKey;
+  private final JwtParser parser;
+  private final long jwtExpiration;
 
-  public String extractUsername(String token) {
-    return extractClaim(token, Claims::getSubject);
-  }
-
-  public Date extractExpiration(String token) {
-    return extractClaim(token, Claims::getExpiration);
+  public JwtUtils(@Value("${app.jwt.secret}") String jwtSecret,
+                  @Value("${app.jwt.expiration}") long jwtExpiration) {
+    this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    this.parser = Jwts.parser().verifyWith(signingKey).build();
+    this.jwtExpiration = jwtExpiration;
   }
 
-  public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-    final Claims claims = extractAllClaims(token);
-    return claimsResolver.apply(claims);
+  /**
+   * Checks the signature and expiry in a single parse; throws {@link JwtException} otherwise.
+   */
+  public VerifiedToken verify(String token) {
+    return VerifiedToken.from(parser.parseSignedClaims(token).getPayload());
   }
 
-  private Claims extractAllClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+  public String extractUsername(String token) {
+    return verify(token).subject();
   }
 
-  private Boolean isTokenExpired(String token) {
-    return extractExpiration(token).before(new Date());
+  /**
+   * Issues a token carrying everything needed to authenticate requests without loading the user.
+   */
+  public String generateToken(User user) {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put(CLAIM_USER_ID, user.getId());
+    claims.put(CLAIM_ROLE, user.getRole().name());
+    claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+    claims.put(CLAIM_ACTIVE, Boolean.TRUE.equals(user.getIsActive()));
+    return createToken(claims, user.getEmail());
   }
 
   public String generateToken(UserDetails userDetails) {
@@ -57,22 +69,21 @@ public class JwtUtils {
   }
 
   private String createToken(Map<String, Object> claims, String subject) {
+    long now = System.currentTimeMillis();
     return Jwts.builder()
         .claims(claims)
         .subject(subject)
-        .issuedAt(new Date(System.currentTimeMillis()))
-        .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
-        .signWith(getSigningKey(), Jwts.SIG.HS256)
+        .issuedAt(new Date(now))
+        .expiration(new Date(now + jwtExpiration))
+        .signWith(signingKey, Jwts.SIG.HS256)
         .compact();
   }
 
-  public Boolean validateToken(String token, UserDetails userDetails) {
-    final String username = extractUsername(token);
-    return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-  }
-
-  private SecretKey getSigningKey() {
-    byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-    return Keys.hmacShaKeyFor(keyBytes);
+  public boolean validateToken(String token, UserDetails userDetails) {
+    try {
+      return verify(token).subject().equals(userDetails.getUsername());
+    } catch (JwtException | IllegalArgumentException e) {
+      return false;
+    }
   }
 }
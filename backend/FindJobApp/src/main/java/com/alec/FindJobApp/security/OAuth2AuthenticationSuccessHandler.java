@@ -10,8 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -27,7 +25,6 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
   private final UserRepository userRepository;
   private final JwtUtils jwtUtils;
-  private final UserDetailsService userDetailsService;
 
   @Value("${app.frontend.url:http://localhost:5173}")
   private String frontendUrl;
@@ -87,8 +84,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
       userRepository.save(user);
     }
 
-    UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-    String token = jwtUtils.generateToken(userDetails);
+    String token = jwtUtils.generateToken(user);
 
     String redirectUrl = UriComponentsBuilder.fromUriString(frontendUrl + "/oauth/callback")
         .queryParam("token", token)
@@ -0,0 +1,256 @@
+package com.alec.FindJobApp.security;
+
+import com.alec.FindJobApp.dto.ApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throttles the auth endpoints per client IP and per target email before they reach
+ * {@code AuthService}, so floods never cost a hash, an OTP or an email. Each bucket is a single
+ * {@link AtomicLong} updated by compare-and-set (the generic cell rate algorithm), so there are no
+ * locks on the request path. Buckets live in a size-bounded cache and are dropped once idle for a
+ * full period, by which time they would have refilled anyway.
+ *
+ * <p>The client IP is {@link HttpServletRequest#getRemoteAddr()}; behind a proxy, set
+ * {@code server.forward-headers-strategy} so it reflects the real client.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final int MAX_BODY_BYTES = 16 * 1024;
+
+  private final RateLimitProperties properties;
+  private final ObjectMapper objectMapper;
+  private final Cache<String, Bucket> buckets;
+
+  public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(properties.getMaxBuckets())
+        .expireAfter(new Expiry<String, Bucket>() {
+          @Override
+          public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+            return bucket.periodNanos;
+          }
+
+          @Override
+          public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.periodNanos;
+          }
+
+          @Override
+          public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.periodNanos;
+          }
+        })
+        .build();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !properties.isEnabled()
+        || !"POST".equals(request.getMethod())
+        || !properties.getRoutes().containsKey(path(request));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+    String path = path(request);
+    RateLimitProperties.Route route = properties.getRoutes().get(path);
+    long now = System.nanoTime();
+
+    long waitNanos = 0;
+    if (route.getPerIp() != null) {
+      waitNanos = acquire(path + "|ip|" + request.getRemoteAddr(), route.getPerIp(), now);
+    }
+    if (waitNanos == 0 && route.getPerEmail() != null) {
+      CachedBodyRequest cached = new CachedBodyRequest(request);
+      request = cached;
+      String email = cached.email();
+      if (email != null) {
+        waitNanos = acquire(path + "|email|" + email, route.getPerEmail(), now);
+      }
+    }
+
+    if (waitNanos > 0) {
+      log.debug("Rate limited {} from {}", path, request.getRemoteAddr());
+      reject(response, waitNanos);
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  private long acquire(String key, RateLimitProperties.Limit limit, long now) {
+    long periodNanos = limit.getPeriod().toNanos();
+    Bucket bucket = buckets.get(key, k -> new Bucket(periodNanos, now));
+    return bucket.tryAcquire(periodNanos / Math.max(1, limit.getRequests()), now);
+  }
+
+  private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(1, Duration.ofNanos(waitNanos).toSeconds() + 1)));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(),
+        ApiResponse.error("Too many requests, please try again later"));
+  }
+
+  /**
+   * The decoded path within the application, as handler mapping sees it, so a percent-encoded
+   * or matrix-parameter variant of a route cannot slip past its limits.
+   */
+  private static String path(HttpServletRequest request) {
+    return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+  }
+
+  /**
+   * Theoretical arrival time of the next request, in {@link System#nanoTime()} units. A request
+   * is allowed while that time stays within one period of now; each allowed request pushes it
+   * forward by one emission interval.
+   */
+  private static final class Bucket {
+
+    private final long periodNanos;
+    private final AtomicLong arrival;
+
+    Bucket(long periodNanos, long now) {
+      this.periodNanos = periodNanos;
+      this.arrival = new AtomicLong(now);
+    }
+
+    /**
+     * Returns 0 if the request is allowed, otherwise how long until it would be.
+     */
+    long tryAcquire(long intervalNanos, long now) {
+      while (true) {
+        long current = arrival.get();
+        long next = Math.max(current, now) + intervalNanos;
+        long ahead = next - now - periodNanos;
+        if (ahead > 0) {
+          return ahead;
+        }
+        if (arrival.compareAndSet(current, next)) {
+          return 0;
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads the start of the body once to find the target email and replays it to the controller.
+   * Bodies larger than any auth request are passed through without an email check.
+   */
+  private final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] head;
+    private final InputStream body;
+
+    CachedBodyRequest(HttpServletRequest request) throws IOException {
+      super(request);
+      InputStream original = request.getInputStream();
+      this.head = original.readNBytes(MAX_BODY_BYTES + 1);
+      this.body = new SequenceInputStream(new ByteArrayInputStream(head), original);
+    }
+
+    String email() {
+      if (head.length == 0 || head.length > MAX_BODY_BYTES) {
+        return null;
+      }
+      try {
+        JsonNode email = objectMapper.readTree(head).path("email");
+        return email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+      } catch (IOException e) {
+        // Malformed JSON is left for the controller to reject.
+        return null;
+      }
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      return new ServletInputStream() {
+        private boolean finished;
+
+        @Override
+        public int read() throws IOException {
+          int b = body.read();
+          finished = b < 0;
+          return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+          int n = body.read(buffer, offset, length);
+          finished = n < 0;
+          return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+          return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        /**
+         * The head is already in memory and the rest is read blocking, so everything counts
+         * as available at once.
+         */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          try {
+            readListener.onDataAvailable();
+            readListener.onAllDataRead();
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      String encoding = getCharacterEncoding();
+      Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+      return new BufferedReader(new InputStreamReader(body, charset));
+    }
+  }
+}
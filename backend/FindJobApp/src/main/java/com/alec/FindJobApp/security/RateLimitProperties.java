@@ -0,0 +1,62 @@
+package com.alec.FindJobApp.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-route limits for {@link RateLimitFilter}, keyed by request path. A route configured in
+ * properties replaces its default as a whole, e.g.
+ * {@code app.rate-limit.routes[/api/auth/login].per-ip.requests=50}; a missing limit disables
+ * that check for the route.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+
+  /** Upper bound on tracked clients and emails across all routes. */
+  private long maxBuckets = 100_000;
+
+  private Map<String, Route> routes = defaultRoutes();
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Route {
+    private Limit perIp;
+    private Limit perEmail;
+  }
+
+  /**
+   * Allows {@code requests} in a burst, refilling steadily to that many per {@code period}.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Limit {
+    private int requests;
+    private Duration period;
+  }
+
+  private static Map<String, Route> defaultRoutes() {
+    Map<String, Route> routes = new LinkedHashMap<>();
+    routes.put("/api/auth/login", new Route(
+        new Limit(20, Duration.ofMinutes(1)), new Limit(10, Duration.ofMinutes(5))));
+    routes.put("/api/auth/verify-otp", new Route(
+        new Limit(20, Duration.ofMinutes(1)), new Limit(5, Duration.ofMinutes(5))));
+    routes.put("/api/auth/forgot-password", new Route(
+        new Limit(5, Duration.ofMinutes(1)), new Limit(3, Duration.ofMinutes(15))));
+    routes.put("/api/auth/register", new Route(
+        new Limit(5, Duration.ofMinutes(10)), new Limit(3, Duration.ofHours(1))));
+    return routes;
+  }
+}
@@ -0,0 +1,33 @@
+package com.alec.FindJobApp.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * A token whose signature and expiry have already been checked, with the claims the
+ * authentication filter needs pulled out once. {@code userId} is null for tokens issued before
+ * account-state claims were added.
+ */
+public record VerifiedToken(
+    String subject,
+    Long userId,
+    String role,
+    Integer tokenVersion,
+    boolean active,
+    Instant expiresAt) {
+
+  static VerifiedToken from(Claims claims) {
+    return new VerifiedToken(
+        claims.getSubject(),
+        claims.get(JwtUtils.CLAIM_USER_ID, Long.class),
+        claims.get(JwtUtils.CLAIM_ROLE, String.class),
+        claims.get(JwtUtils.CLAIM_TOKEN_VERSION, Integer.class),
+        Boolean.TRUE.equals(claims.get(JwtUtils.CLAIM_ACTIVE, Boolean.class)),
+        claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+  }
+
+  public boolean hasAccountClaims() {
+    return userId != null;
+  }
+}
@@ -0,0 +1,89 @@
+package com.alec.FindJobApp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Optional cache of tokens that already passed {@link JwtUtils#verify}, so a client repeating the
+ * same bearer token pays for a hash lookup instead of a signature check and claims parse. Entries
+ * are keyed by a 64-bit digest of the compact token, hold the full token to rule out collisions,
+ * and expire at the token's own {@code exp}. Revocation is unaffected: the filter still checks
+ * account state for every request.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final JwtUtils jwtUtils;
+  private final Cache<Long, Entry> cache;
+
+  public VerifiedTokenCache(JwtUtils jwtUtils,
+                            @Value("${app.jwt.verified-cache.enabled:false}") boolean enabled,
+                            @Value("${app.jwt.verified-cache.max-size:10000}") long maxSize) {
+    this.jwtUtils = jwtUtils;
+    this.cache = enabled
+        ? Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(Expiry.creating((Long digest, Entry entry) -> entry.timeToLive()))
+            .build()
+        : null;
+  }
+
+  public VerifiedToken verify(String token) {
+    if (cache == null) {
+      return jwtUtils.verify(token);
+    }
+    long digest = digest(token);
+    Entry entry = cache.getIfPresent(digest);
+    if (entry != null && entry.matches(token)) {
+      return entry.verified();
+    }
+
+    VerifiedToken verified = jwtUtils.verify(token);
+    if (verified.expiresAt() != null) {
+      cache.put(digest, new Entry(token, verified));
+    }
+    return verified;
+  }
+
+  /**
+   * FNV-1a over the token's characters. Not collision resistant, which is fine: a hit also
+   * requires the stored token to match in full.
+   */
+  private static long digest(String token) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < token.length(); i++) {
+      hash ^= token.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  private record Entry(String token, VerifiedToken verified) {
+
+    Duration timeToLive() {
+      Duration ttl = Duration.between(Instant.now(), verified.expiresAt());
+      return ttl.isNegative() ? Duration.ZERO : ttl;
+    }
+
+    /**
+     * Constant-time comparison, so response timing says nothing about how much of a guessed
+     * token matches a cached one.
+     */
+    boolean matches(String candidate) {
+      if (candidate.length() != token.length()) {
+        return false;
+      }
+      int diff = 0;
+      for (int i = 0; i < token.length(); i++) {
+        diff |= token.charAt(i) ^ candidate.charAt(i);
+      }
+      return diff == 0;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Repairs drift in the denormalized {@code jobs.application_count} column. Jobs are reconciled
+ * in id ranges, each range in its own short transaction, so the pass never locks the whole table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationCountReconciler {
+
+  private final JobRepository jobRepository;
+
+  @Value("${app.jobs.application-count.reconcile-chunk-size:1000}")
+  private int chunkSize;
+
+  @Scheduled(cron = "${app.jobs.application-count.reconcile-cron:0 30 3 * * *}")
+  public void reconcile() {
+    long maxId = jobRepository.findMaxId();
+    int repaired = 0;
+    for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+      repaired += jobRepository.reconcileApplicationCounts(fromId, fromId + chunkSize);
+    }
+    if (repaired > 0) {
+      log.warn("Reconciled application counts for {} jobs", repaired);
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Streams every application for a job straight from a forward-only JDBC cursor to the response.
+ * Rows are written as they are fetched, so memory use does not grow with the number of
+ * applications.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationExportService {
+
+  private static final String EXPORT_SQL = "SELECT a.id, j.id, j.title, j.company, s.id, " +
+      "s.first_name || ' ' || s.last_name, s.email, a.status, a.cover_letter, a.resume_filename, " +
+      "a.applied_at, a.reviewed_at, a.reviewer_notes, a.match_score " +
+      "FROM applications a JOIN jobs j ON j.id = a.job_id JOIN users s ON s.id = a.seeker_id " +
+      "WHERE a.job_id = ? ORDER BY a.id";
+
+  private static final String[] COLUMNS = {
+      "id", "jobId", "jobTitle", "company", "seekerId", "seekerName", "seekerEmail", "status",
+      "coverLetter", "resumeFilename", "appliedAt", "reviewedAt", "reviewerNotes", "matchScore"
+  };
+
+  private final ApplicationService applicationService;
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.export.fetch-size:500}")
+  private int fetchSize;
+
+  public enum Format {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    Format(String contentType, String extension) {
+      this.contentType = contentType;
+      this.extension = extension;
+    }
+
+    public static Format from(String value) {
+      for (Format format : values()) {
+        if (format.name().equalsIgnoreCase(value)) {
+          return format;
+        }
+      }
+      throw new BadRequestException("Unsupported export format: " + value + " (expected csv or ndjson)");
+    }
+
+    public MediaType mediaType() {
+      return MediaType.parseMediaType(contentType + ";charset=UTF-8");
+    }
+
+    public String extension() {
+      return extension;
+    }
+  }
+
+  /**
+   * Checks access up front, while the caller's security context is still available, and
+   * returns a body that streams the rows once the response is being written.
+   */
+  public StreamingResponseBody exportApplicationsForJob(Long jobId, Format format) {
+    applicationService.requireJobOwner(jobId);
+
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.setReadOnly(true);
+
+    return outputStream -> {
+      long started = System.currentTimeMillis();
+      RowWriter writer = format == Format.CSV ? new CsvRowWriter(outputStream) : new NdjsonRowWriter(outputStream);
+      long[] rows = {0};
+      // PostgreSQL only honours the fetch size inside a transaction; otherwise it buffers the whole result.
+      transaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+        PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        statement.setLong(1, jobId);
+        return statement;
+      }, resultSet -> {
+        try {
+          writer.write(resultSet);
+          rows[0]++;
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }));
+      writer.close();
+      log.info("Exported {} applications for job {} as {} in {} ms",
+          rows[0], jobId, format, System.currentTimeMillis() - started);
+    };
+  }
+
+  private interface RowWriter {
+    void write(ResultSet row) throws SQLException, IOException;
+
+    void close() throws IOException;
+  }
+
+  private static final class CsvRowWriter implements RowWriter {
+
+    private final Writer out;
+
+    CsvRowWriter(OutputStream outputStream) throws IOException {
+      out = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+      out.write(String.join(",", COLUMNS));
+      out.write("\r\n");
+    }
+
+    @Override
+    public void write(ResultSet row) throws SQLException, IOException {
+      for (int i = 1; i <= COLUMNS.length; i++) {
+        if (i > 1) {
+          out.write(',');
+        }
+        Object value = row.getObject(i);
+        if (value instanceof Timestamp timestamp) {
+          value = timestamp.toLocalDateTime();
+        }
+        if (value != null) {
+          writeField(value.toString());
+        }
+      }
+      out.write("\r\n");
+    }
+
+    /**
+     * Seeker-supplied text that a spreadsheet would read as a formula is prefixed with a quote
+     * and quoted, so it opens as plain text.
+     */
+    private void writeField(String value) throws IOException {
+      boolean formula = !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+      if (formula) {
+        value = "'" + value;
+      }
+      boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+          || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+      if (!quote) {
+        out.write(value);
+        return;
+      }
+      out.write('"');
+      out.write(value.replace("\"", "\"\""));
+      out.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+      out.flush();
+    }
+  }
+
+  private final class NdjsonRowWriter implements RowWriter {
+
+    private final JsonGenerator json;
+
+    NdjsonRowWriter(OutputStream outputStream) throws IOException {
+      json = objectMapper.getFactory().createGenerator(outputStream);
+      json.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(ResultSet row) throws SQLException, IOException {
+      json.writeStartObject();
+      json.writeNumberField(COLUMNS[0], row.getLong(1));
+      json.writeNumberField(COLUMNS[1], row.getLong(2));
+      json.writeStringField(COLUMNS[2], row.getString(3));
+      json.writeStringField(COLUMNS[3], row.getString(4));
+      json.writeNumberField(COLUMNS[4], row.getLong(5));
+      json.writeStringField(COLUMNS[5], row.getString(6));
+      json.writeStringField(COLUMNS[6], row.getString(7));
+      json.writeStringField(COLUMNS[7], row.getString(8));
+      json.writeStringField(COLUMNS[8], row.getString(9));
+      json.writeStringField(COLUMNS[9], row.getString(10));
+      writeTimestamp(COLUMNS[10], row.getTimestamp(11));
+      writeTimestamp(COLUMNS[11], row.getTimestamp(12));
+      json.writeStringField(COLUMNS[12], row.getString(13));
+      float matchScore = row.getFloat(14);
+      if (row.wasNull()) {
+        json.writeNullField(COLUMNS[13]);
+      } else {
+        json.writeNumberField(COLUMNS[13], matchScore);
+      }
+      json.writeEndObject();
+      json.writeRaw('\n');
+    }
+
+    private void writeTimestamp(String field, Timestamp value) throws IOException {
+      json.writeStringField(field, value != null ? value.toLocalDateTime().toString() : null);
+    }
+
+    @Override
+    public void close() throws IOException {
+      json.flush();
+    }
+  }
+}
@@ -1,18 +1,26 @@
 package com.alec.FindJobApp.service;
 
 import com.alec.FindJobApp.dto.ApplicationDTO;
+import com.alec.FindJobApp.dto.BulkStatusUpdateRequest;
 import com.alec.FindJobApp.exception.BadRequestException;
+import com.alec.FindJobApp.exception.ConflictException;
 import com.alec.FindJobApp.exception.ResourceNotFoundException;
 import com.alec.FindJobApp.model.*;
 import com.alec.FindJobApp.repository.ApplicationRepository;
+import com.alec.FindJobApp.repository.ResumeUploadRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -21,7 +29,9 @@ public class ApplicationService {
   private final ApplicationRepository applicationRepository;
   private final JobService jobService;
   private final UserService userService;
-  private final FileStorageService fileStorageService;
+  private final FileReclamationService fileReclamationService;
+  private final ResumeUploadService resumeUploadService;
+  private final MatchScoreService matchScoreService;
   private final EmailService emailService;
 
   public ApplicationDTO toDTO(Application application) {
@@ -39,44 +49,58 @@ public class ApplicationService {
         .appliedAt(application.getAppliedAt())
         .reviewedAt(application.getReviewedAt())
         .reviewerNotes(application.getReviewerNotes())
+        .matchScore(application.getMatchScore())
         .build();
   }
 
+  /**
+   * Applies in a single conditional insert. The unique (job_id, seeker_id) constraint decides
+   * duplicates, so concurrent applies never race a separate existence check; only a miss pays
+   * for a follow-up lookup to explain why. The resume is already on disk under a staged upload
+   * handle; a failed apply rolls the claim back so the handle can be retried.
+   */
   @Transactional
-  public ApplicationDTO applyForJob(Long jobId, String coverLetter, MultipartFile resume) {
+  public ApplicationDTO applyForJob(Long jobId, String coverLetter, String resumeUploadId) {
     User seeker = userService.getCurrentUser();
 
     if (seeker.getRole() != Role.SEEKER) {
       throw new BadRequestException("Only job seekers can apply for jobs");
     }
 
-    Job job = jobService.getJobById(jobId);
-
-    if (job.getStatus() != JobStatus.OPEN) {
-      throw new BadRequestException("This job is no longer accepting applications");
+    String resumePath = null;
+    String resumeFilename = null;
+    if (resumeUploadId != null && !resumeUploadId.isBlank()) {
+      ResumeUploadRepository.StagedResume staged = resumeUploadService.consume(resumeUploadId, seeker.getId());
+      resumePath = staged.getStoredPath();
+      resumeFilename = staged.getOriginalFilename();
     }
 
-    if (applicationRepository.existsByJobAndSeeker(job, seeker)) {
-      throw new BadRequestException("You have already applied for this job");
-    }
+    LocalDateTime now = LocalDateTime.now();
+    Optional<ApplicationRepository.InsertedApplication> inserted = applicationRepository.insertIfOpenAndAbsent(
+        jobId, seeker.getId(), coverLetter, resumePath, resumeFilename, now);
 
-    String resumePath = null;
-    String resumeFilename = null;
-    if (resume != null && !resume.isEmpty()) {
-      resumePath = fileStorageService.storeFile(resume, "resumes");
-      resumeFilename = resume.getOriginalFilename();
+    if (inserted.isEmpty()) {
+      Job job = jobService.getJobById(jobId);
+      if (job.getStatus() != JobStatus.OPEN) {
+        throw new BadRequestException("This job is no longer accepting applications");
+      }
+      throw new ConflictException("You have already applied for this job");
     }
+    matchScoreService.requestScoring();
 
-    Application application = Application.builder()
-        .job(job)
-        .seeker(seeker)
+    return ApplicationDTO.builder()
+        .id(inserted.get().getId())
+        .jobId(jobId)
+        .jobTitle(inserted.get().getJobTitle())
+        .company(inserted.get().getCompany())
+        .seekerId(seeker.getId())
+        .seekerName(seeker.getFullName())
+        .seekerEmail(seeker.getEmail())
         .status(ApplicationStatus.PENDING)
         .coverLetter(coverLetter)
-        .resumePath(resumePath)
         .resumeFilename(resumeFilename)
+        .appliedAt(now)
         .build();
-
-    return toDTO(applicationRepository.save(application));
   }
 
   public Application getApplicationById(Long id) {
@@ -84,21 +108,47 @@ public class ApplicationService {
         .orElseThrow(() -> new ResourceNotFoundException("Application", "id", id));
   }
 
-  public Page<ApplicationDTO> getMyApplications(Pageable pageable) {
+  public Page<ApplicationDTO> getMyApplications(ApplicationStatus status, Pageable pageable) {
     User seeker = userService.getCurrentUser();
-    return applicationRepository.findBySeeker(seeker, pageable).map(this::toDTO);
+    if (status != null) {
+      return applicationRepository.findApplicationDTOsBySeekerIdAndStatus(seeker.getId(), status, pageable);
+    }
+    return applicationRepository.findApplicationDTOsBySeekerId(seeker.getId(), pageable);
   }
 
   public Page<ApplicationDTO> getApplicationsForJob(Long jobId, Pageable pageable) {
-    Job job = jobService.getJobById(jobId);
+    requireJobOwner(jobId);
+    return applicationRepository.findApplicationDTOsByJobId(jobId, unscoredLast(pageable));
+  }
+
+  /**
+   * Applications waiting for a match score sort after scored ones in either direction, which
+   * also lets PostgreSQL walk the (job_id, match_score DESC NULLS LAST) index.
+   */
+  private Pageable unscoredLast(Pageable pageable) {
+    Sort.Order order = pageable.getSort().getOrderFor("matchScore");
+    if (order == null) {
+      return pageable;
+    }
+    Sort sort = Sort.by(pageable.getSort().stream()
+        .map(o -> o == order ? o.nullsLast() : o)
+        .toList());
+    return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+  }
+
+  void requireJobOwner(Long jobId) {
+    Long recruiterId = jobService.getRecruiterId(jobId);
     User currentUser = userService.getCurrentUser();
 
-    if (!job.getRecruiter().getId().equals(currentUser.getId())
+    if (!recruiterId.equals(currentUser.getId())
         && currentUser.getRole() != Role.ADMIN) {
       throw new BadRequestException("You can only view applications for your own jobs");
     }
+  }
 
-    return applicationRepository.findByJob(job, pageable).map(this::toDTO);
+  public List<ApplicationDTO> getRecentApplications(int limit) {
+    return applicationRepository.findRecentApplicationDTOs(
+        PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "appliedAt")));
   }
 
   @Transactional
@@ -119,7 +169,7 @@ public class ApplicationService {
 
     Application saved = applicationRepository.save(application);
 
-    emailService.sendApplicationStatusEmail(
+    emailService.queueApplicationStatusEmail(
         application.getSeeker().getEmail(),
         application.getSeeker().getFullName(),
         application.getJob().getTitle(),
@@ -129,6 +179,26 @@ public class ApplicationService {
     return toDTO(saved);
   }
 
+  @Transactional
+  public int bulkUpdateApplicationStatus(BulkStatusUpdateRequest request) {
+    Set<Long> ids = new LinkedHashSet<>(request.getApplicationIds());
+    User currentUser = userService.getCurrentUser();
+
+    // One query both checks ownership and loads what the notification emails need.
+    List<ApplicationDTO> applications = currentUser.getRole() == Role.ADMIN
+        ? applicationRepository.findApplicationDTOsByIdIn(ids)
+        : applicationRepository.findApplicationDTOsByIdInAndRecruiterId(ids, currentUser.getId());
+    if (applications.size() != ids.size()) {
+      throw new BadRequestException("You can only update existing applications for your own jobs");
+    }
+
+    int updated = applicationRepository.updateStatusByIdIn(
+        ids, request.getStatus(), request.getReviewerNotes(), LocalDateTime.now());
+
+    emailService.queueApplicationStatusEmails(applications, request.getStatus().name());
+    return updated;
+  }
+
   @Transactional
   public void withdrawApplication(Long id) {
     Application application = getApplicationById(id);
@@ -138,10 +208,10 @@ public class ApplicationService {
       throw new BadRequestException("You can only withdraw your own applications");
     }
 
+    applicationRepository.delete(application);
     if (application.getResumePath() != null) {
-      fileStorageService.deleteFile(application.getResumePath());
+      fileReclamationService.reclaim(application.getResumePath());
     }
-
-    applicationRepository.delete(application);
+    jobService.decrementApplicationCount(application.getJob().getId());
   }
 }
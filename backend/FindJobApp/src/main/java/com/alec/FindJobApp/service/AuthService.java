@@ -10,16 +10,16 @@ import com.alec.FindJobApp.model.Role;
 import com.alec.FindJobApp.model.User;
 import com.alec.FindJobApp.repository.PasswordResetTokenRepository;
 import com.alec.FindJobApp.repository.UserRepository;
+import com.alec.FindJobApp.security.AccountStateCache;
 import com.alec.FindJobApp.security.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -33,37 +33,43 @@ public class AuthService {
   private final PasswordEncoder passwordEncoder;
   private final JwtUtils jwtUtils;
   private final AuthenticationManager authenticationManager;
-  private final UserDetailsService userDetailsService;
+  private final AccountStateCache accountStateCache;
   private final EmailService emailService;
   private final OtpService otpService;
+  private final TransactionTemplate transactionTemplate;
 
   @Value("${app.frontend.url:http://localhost:5173}")
   private String frontendUrl;
 
-  @Transactional
+  /**
+   * Hashes the password before opening the transaction, so waiting for the hashing pool never
+   * holds a database connection.
+   */
   public AuthResponse register(RegisterRequest request) {
     if (userRepository.existsByEmail(request.getEmail())) {
       throw new BadRequestException("Email already registered");
     }
 
     boolean needsApproval = request.getRole() == Role.RECRUITER;
-
-    User user = User.builder()
-        .firstName(request.getFirstName())
-        .lastName(request.getLastName())
-        .email(request.getEmail())
-        .password(passwordEncoder.encode(request.getPassword()))
-        .role(request.getRole())
-        .isActive(true)
-        .isApproved(!needsApproval)
-        .build();
-
-    user = userRepository.save(user);
-
-    emailService.sendWelcomeEmail(
-        user.getEmail(),
-        user.getFullName(),
-        user.getRole().name());
+    String passwordHash = passwordEncoder.encode(request.getPassword());
+
+    User user = transactionTemplate.execute(status -> {
+      User saved = userRepository.save(User.builder()
+          .firstName(request.getFirstName())
+          .lastName(request.getLastName())
+          .email(request.getEmail())
+          .password(passwordHash)
+          .role(request.getRole())
+          .isActive(true)
+          .isApproved(!needsApproval)
+          .build());
+
+      emailService.queueWelcomeEmail(
+          saved.getEmail(),
+          saved.getFullName(),
+          saved.getRole().name());
+      return saved;
+    });
 
     if (needsApproval) {
       return AuthResponse.builder()
@@ -78,8 +84,7 @@ public class AuthService {
           .build();
     }
 
-    UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-    String token = jwtUtils.generateToken(userDetails);
+    String token = jwtUtils.generateToken(user);
 
     return AuthResponse.builder()
         .token(token)
@@ -121,8 +126,7 @@ public class AuthService {
           .build();
     }
 
-    UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-    String token = jwtUtils.generateToken(userDetails);
+    String token = jwtUtils.generateToken(user);
 
     return AuthResponse.builder()
         .token(token)
@@ -147,8 +151,7 @@ public class AuthService {
       throw new BadRequestException("Invalid or expired OTP code");
     }
 
-    UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-    String token = jwtUtils.generateToken(userDetails);
+    String token = jwtUtils.generateToken(user);
 
     return AuthResponse.builder()
         .token(token)
@@ -183,27 +186,43 @@ public class AuthService {
     passwordResetTokenRepository.save(resetToken);
 
     String resetLink = frontendUrl + "/reset-password?token=" + tokenString;
-    emailService.sendPasswordResetEmail(user.getEmail(), user.getFullName(), resetLink);
+    emailService.queuePasswordResetEmail(user.getEmail(), user.getFullName(), resetLink,
+        resetToken.getExpiryDate());
   }
 
-  @Transactional
+  /**
+   * The token is checked before hashing so bogus tokens never cost a hash, and again inside the
+   * transaction in case it was used while the new password was being hashed.
+   */
   public void resetPassword(ResetPasswordRequest request) {
     if (!request.getNewPassword().equals(request.getConfirmPassword())) {
       throw new BadRequestException("Passwords do not match");
     }
 
-    PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(request.getToken())
+    findValidResetToken(request.getToken());
+    String passwordHash = passwordEncoder.encode(request.getNewPassword());
+
+    transactionTemplate.executeWithoutResult(status -> {
+      PasswordResetToken resetToken = findValidResetToken(request.getToken());
+
+      User user = resetToken.getUser();
+      user.setPassword(passwordHash);
+      user.revokeTokens();
+      userRepository.save(user);
+      accountStateCache.invalidate(user.getId());
+
+      resetToken.setUsed(true);
+      passwordResetTokenRepository.save(resetToken);
+    });
+  }
+
+  private PasswordResetToken findValidResetToken(String token) {
+    PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(token)
         .orElseThrow(() -> new BadRequestException("Invalid or expired reset token"));
 
     if (!resetToken.isValid()) {
       throw new BadRequestException("Reset token has expired or already been used");
     }
-
-    User user = resetToken.getUser();
-    user.setPassword(passwordEncoder.encode(request.getNewPassword()));
-    userRepository.save(user);
-
-    resetToken.setUsed(true);
-    passwordResetTokenRepository.save(resetToken);
+    return resetToken;
   }
 }
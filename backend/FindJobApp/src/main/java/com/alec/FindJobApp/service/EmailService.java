@@ -1,42 +1,80 @@
 package com.alec.FindJobApp.service;
 
+import com.alec.FindJobApp.dto.ApplicationDTO;
+import com.alec.FindJobApp.model.OutboxEvent;
+import com.alec.FindJobApp.model.OutboxEventType;
+import com.alec.FindJobApp.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Renders notification emails and records them in the outbox as part of the caller's
+ * transaction. Nothing is sent here; {@link OutboxDispatcher} delivers them after commit.
+ */
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class EmailService {
 
-  private final JavaMailSender mailSender;
-
-  @Value("${spring.mail.username}")
-  private String fromEmail;
-
-  @Async
-  public void sendEmail(String to, String subject, String body) {
-    try {
-      SimpleMailMessage message = new SimpleMailMessage();
-      message.setFrom(fromEmail);
-      message.setTo(to);
-      message.setSubject(subject);
-      message.setText(body);
-      mailSender.send(message);
-      log.info("Email sent successfully to: {}", to);
-    } catch (Exception e) {
-      log.error("Failed to send email to {}: {}", to, e.getMessage());
-    }
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxDispatcher outboxDispatcher;
+
+  private void queue(OutboxEventType type, String to, String subject, String body) {
+    queue(type, to, subject, body, null);
+  }
+
+  /**
+   * Queues an email that is useless after {@code expiresAt}; the dispatcher drops it rather than
+   * delivering a dead code or link.
+   */
+  private void queue(OutboxEventType type, String to, String subject, String body, LocalDateTime expiresAt) {
+    OutboxEvent event = outboxEvent(type, to, subject, body, LocalDateTime.now());
+    event.setExpiresAt(expiresAt);
+    outboxEventRepository.save(event);
+    outboxDispatcher.requestDispatch();
+  }
+
+  private static OutboxEvent outboxEvent(OutboxEventType type, String to, String subject, String body,
+                                         LocalDateTime now) {
+    return OutboxEvent.builder()
+        .eventType(type)
+        .recipient(to)
+        .subject(subject)
+        .body(body)
+        .nextAttemptAt(now)
+        .build();
   }
 
-  public void sendApplicationStatusEmail(String to, String seekerName, String jobTitle,
+  public void queueApplicationStatusEmail(String to, String seekerName, String jobTitle,
       String company, String status) {
-    String subject = "Application Status Update - " + jobTitle;
-    String body = String.format(
+    queue(OutboxEventType.APPLICATION_STATUS_CHANGED, to, applicationStatusSubject(jobTitle),
+        applicationStatusBody(seekerName, jobTitle, company, status));
+  }
+
+  public void queueApplicationStatusEmails(List<ApplicationDTO> applications, String status) {
+    if (applications.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    outboxEventRepository.saveAll(applications.stream()
+        .map(application -> outboxEvent(OutboxEventType.APPLICATION_STATUS_CHANGED,
+            application.getSeekerEmail(),
+            applicationStatusSubject(application.getJobTitle()),
+            applicationStatusBody(application.getSeekerName(), application.getJobTitle(),
+                application.getCompany(), status),
+            now))
+        .toList());
+    outboxDispatcher.requestDispatch();
+  }
+
+  private String applicationStatusSubject(String jobTitle) {
+    return "Application Status Update - " + jobTitle;
+  }
+
+  private String applicationStatusBody(String seekerName, String jobTitle, String company, String status) {
+    return String.format(
         "Dear %s,\n\n" +
             "Your application for the position of %s at %s has been updated.\n\n" +
             "New Status: %s\n\n" +
@@ -44,10 +82,9 @@ public class EmailService {
             "Best regards,\n" +
             "The Find Job App Team",
         seekerName, jobTitle, company, status);
-    sendEmail(to, subject, body);
   }
 
-  public void sendWelcomeEmail(String to, String name, String role) {
+  public void queueWelcomeEmail(String to, String name, String role) {
     String subject = "Welcome to Find Job App!";
     String roleMessage = role.equals("RECRUITER")
         ? "Your account is pending admin approval. You will receive an email once approved."
@@ -62,10 +99,10 @@ public class EmailService {
         name,
         role,
         roleMessage);
-    sendEmail(to, subject, body);
+    queue(OutboxEventType.USER_REGISTERED, to, subject, body);
   }
 
-  public void sendPasswordResetEmail(String to, String name, String resetLink) {
+  public void queuePasswordResetEmail(String to, String name, String resetLink, LocalDateTime expiresAt) {
     String subject = "Password Reset Request - Find Job App";
     String body = String.format(
         "Dear %s,\n\n" +
@@ -78,10 +115,10 @@ public class EmailService {
             "The Find Job App Team",
         name,
         resetLink);
-    sendEmail(to, subject, body);
+    queue(OutboxEventType.PASSWORD_RESET_REQUESTED, to, subject, body, expiresAt);
   }
 
-  public void sendOtpEmail(String to, String name, String otpCode) {
+  public void queueOtpEmail(String to, String name, String otpCode, LocalDateTime expiresAt) {
     String subject = "Your Login Verification Code - Find Job App";
     String body = String.format(
         "Dear %s,\n\n" +
@@ -92,10 +129,10 @@ public class EmailService {
             "The Find Job App Team",
         name,
         otpCode);
-    sendEmail(to, subject, body);
+    queue(OutboxEventType.OTP_ISSUED, to, subject, body, expiresAt);
   }
 
-  public void sendRecruiterApprovalEmail(String to, String name) {
+  public void queueRecruiterApprovalEmail(String to, String name) {
     String subject = "Your Recruiter Account Has Been Approved! - Find Job App";
     String body = String.format(
         "Dear %s,\n\n" +
@@ -105,10 +142,10 @@ public class EmailService {
             "Best regards,\n" +
             "The Find Job App Team",
         name);
-    sendEmail(to, subject, body);
+    queue(OutboxEventType.RECRUITER_APPROVED, to, subject, body);
   }
 
-  public void sendRecruiterRejectionEmail(String to, String name) {
+  public void queueRecruiterRejectionEmail(String to, String name) {
     String subject = "Recruiter Account Application Update - Find Job App";
     String body = String.format(
         "Dear %s,\n\n" +
@@ -117,6 +154,6 @@ public class EmailService {
             "Best regards,\n" +
             "The Find Job App Team",
         name);
-    sendEmail(to, subject, body);
+    queue(OutboxEventType.RECRUITER_REJECTED, to, subject, body);
   }
 }
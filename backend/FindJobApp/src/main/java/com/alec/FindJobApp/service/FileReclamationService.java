@@ -0,0 +1,169 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.model.FileTombstone;
+import com.alec.FindJobApp.repository.FileTombstoneRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Deletes stored files once the rows referencing them are gone. Deleting code records a
+ * tombstone in its own transaction; after commit a background worker removes tombstoned files
+ * in batches, so a rolled-back delete never loses a file. A periodic scan removes files that no
+ * row references at all, such as those left behind by a crash between claim and delete.
+ */
+@Service
+@Slf4j
+public class FileReclamationService {
+
+  private final FileTombstoneRepository fileTombstoneRepository;
+  private final FileStorageService fileStorageService;
+  private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "file-reclamation");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean drainQueued = new AtomicBoolean();
+
+  @Value("${app.upload.reclaim.batch-size:200}")
+  private int batchSize;
+
+  @Value("${app.upload.reclaim.orphan-grace:24h}")
+  private Duration orphanGrace;
+
+  public FileReclamationService(FileTombstoneRepository fileTombstoneRepository,
+                                FileStorageService fileStorageService) {
+    this.fileTombstoneRepository = fileTombstoneRepository;
+    this.fileStorageService = fileStorageService;
+  }
+
+  public void reclaim(String path) {
+    fileTombstoneRepository.save(FileTombstone.builder().path(path).build());
+    requestDrain();
+  }
+
+  public void reclaimForJob(Long jobId) {
+    if (fileTombstoneRepository.insertForJobApplications(jobId, LocalDateTime.now()) > 0) {
+      requestDrain();
+    }
+  }
+
+  public void reclaimForUser(Long userId) {
+    if (fileTombstoneRepository.insertForUserFiles(userId, LocalDateTime.now()) > 0) {
+      requestDrain();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.upload.reclaim.interval-ms:300000}", initialDelay = 10000)
+  public void sweep() {
+    queueDrain();
+  }
+
+  /**
+   * Removes files under the upload directory that no row references. Files younger than the
+   * grace period are left alone, since their row may not have been committed yet.
+   */
+  @Scheduled(cron = "${app.upload.reclaim.reconcile-cron:0 0 4 * * *}")
+  public void reconcile() {
+    Path root = fileStorageService.getUploadPath();
+    Instant cutoff = Instant.now().minus(orphanGrace);
+    int[] removed = {0};
+    List<String> chunk = new ArrayList<>(batchSize);
+    try (Stream<Path> files = Files.walk(root)) {
+      files.filter(file -> isOlderThan(file, cutoff)).forEach(file -> {
+        chunk.add(root.relativize(file).toString().replace(File.separatorChar, '/'));
+        if (chunk.size() == batchSize) {
+          removed[0] += removeUnreferenced(chunk);
+          chunk.clear();
+        }
+      });
+    } catch (IOException | UncheckedIOException e) {
+      log.error("Upload directory reconciliation failed: {}", e.getMessage(), e);
+    }
+    if (!chunk.isEmpty()) {
+      removed[0] += removeUnreferenced(chunk);
+    }
+    if (removed[0] > 0) {
+      log.warn("Removed {} unreferenced files from the upload directory", removed[0]);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    worker.shutdownNow();
+  }
+
+  private void requestDrain() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          queueDrain();
+        }
+      });
+    } else {
+      queueDrain();
+    }
+  }
+
+  private void queueDrain() {
+    if (drainQueued.compareAndSet(false, true)) {
+      worker.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    drainQueued.set(false);
+    try {
+      List<String> paths;
+      do {
+        paths = fileTombstoneRepository.claimBatch(batchSize);
+        paths.forEach(fileStorageService::deleteFile);
+      } while (paths.size() == batchSize);
+    } catch (RuntimeException e) {
+      log.error("File reclamation failed: {}", e.getMessage(), e);
+    }
+  }
+
+  private int removeUnreferenced(List<String> paths) {
+    Set<String> referenced = new HashSet<>(fileTombstoneRepository.findReferencedPaths(paths));
+    int removed = 0;
+    for (String path : paths) {
+      if (!referenced.contains(path) && fileStorageService.deleteFile(path)) {
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  private static boolean isOlderThan(Path file, Instant cutoff) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      return attributes.isRegularFile() && attributes.lastModifiedTime().toInstant().isBefore(cutoff);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+}
@@ -66,4 +66,8 @@ public class FileStorageService {
   public Path getFilePath(String filePath) {
     return uploadPath.resolve(filePath);
   }
+
+  public Path getUploadPath() {
+    return uploadPath;
+  }
 }
@@ -0,0 +1,389 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.dto.JobDTO;
+import com.alec.FindJobApp.dto.JobFacetQuery;
+import com.alec.FindJobApp.event.JobChangedEvent;
+import com.alec.FindJobApp.model.Job;
+import com.alec.FindJobApp.model.JobStatus;
+import com.alec.FindJobApp.model.Profile;
+import com.alec.FindJobApp.model.User;
+import com.alec.FindJobApp.repository.JobRepository;
+import com.alec.FindJobApp.repository.ProfileRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Recommends open jobs to seekers by matching profile skills and location against an in-memory
+ * inverted index: each hashed term of a job's title and requirements maps to a bitmap of job
+ * ids. Each seeker's ranked top-K is cached until their profile changes or a job change could
+ * alter it, so a cache hit costs one primary-key lookup for the job rows.
+ *
+ * <p>Every index change or eviction bumps a generation counter, and a ranking is only cached if
+ * the generation is unchanged since its computation started. An invalidation can therefore
+ * never miss a ranking that was still being computed from the old index or profile.
+ */
+@Service
+@Slf4j
+public class JobRecommendationService {
+
+  public static final int MAX_RECOMMENDATIONS = 50;
+  private static final int REBUILD_BATCH_SIZE = 500;
+
+  private final JobRepository jobRepository;
+  private final ProfileRepository profileRepository;
+  private final UserService userService;
+  private final JobService jobService;
+  private final float locationBoost;
+  private final Cache<Long, Recommendations> cache;
+
+  private final AtomicLong generation = new AtomicLong();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private Index index = new Index();
+  // Jobs changed while rebuild() loads a fresh index; null when no rebuild is running.
+  private Set<Integer> changedDuringRebuild;
+
+  public JobRecommendationService(JobRepository jobRepository,
+                                  ProfileRepository profileRepository,
+                                  UserService userService,
+                                  JobService jobService,
+                                  @Value("${app.recommendations.location-boost:1.0}") float locationBoost,
+                                  @Value("${app.recommendations.cache.max-size:10000}") long cacheMaxSize,
+                                  @Value("${app.recommendations.cache.ttl:30m}") Duration cacheTtl) {
+    this.jobRepository = jobRepository;
+    this.profileRepository = profileRepository;
+    this.userService = userService;
+    this.jobService = jobService;
+    this.locationBoost = locationBoost;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(cacheMaxSize)
+        .expireAfterWrite(cacheTtl)
+        .build();
+  }
+
+  public List<JobDTO> getRecommendedJobs(int limit) {
+    User seeker = userService.getCurrentUser();
+    Recommendations recommendations = cache.getIfPresent(seeker.getId());
+    if (recommendations == null) {
+      long started = generation.get();
+      Recommendations computed = compute(seeker);
+      cache.asMap().compute(seeker.getId(), (id, current) ->
+          current != null || generation.get() != started ? current : computed);
+      recommendations = computed;
+    }
+    List<Long> ids = Arrays.stream(recommendations.jobIds())
+        .limit(Math.max(1, Math.min(limit, MAX_RECOMMENDATIONS)))
+        .boxed()
+        .toList();
+    return jobService.getJobsByIds(ids);
+  }
+
+  /**
+   * Drops a seeker's cached recommendations once the current transaction commits, so a
+   * concurrent request cannot re-cache results computed from the old profile.
+   */
+  public void evict(Long userId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          generation.incrementAndGet();
+          cache.invalidate(userId);
+        }
+      });
+    } else {
+      generation.incrementAndGet();
+      cache.invalidate(userId);
+    }
+  }
+
+  /**
+   * Loads a fresh index without holding the lock and swaps it in, then re-reads any job that
+   * changed meanwhile, since its row in the loaded pages may predate the change.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    long started = System.currentTimeMillis();
+    lock.writeLock().lock();
+    try {
+      changedDuringRebuild = new HashSet<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    Index fresh = new Index();
+    Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+    Page<Job> batch;
+    do {
+      batch = jobRepository.findByStatus(JobStatus.OPEN, pageable);
+      for (Job job : batch) {
+        fresh.apply(job.getId().intValue(), IndexedJob.of(job));
+      }
+      pageable = batch.nextPageable();
+    } while (batch.hasNext());
+
+    Set<Integer> changed;
+    lock.writeLock().lock();
+    try {
+      index = fresh;
+      changed = changedDuringRebuild;
+      changedDuringRebuild = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    for (int jobId : changed) {
+      apply(jobId, load((long) jobId));
+    }
+    generation.incrementAndGet();
+    cache.invalidateAll();
+
+    int openJobs;
+    int terms;
+    lock.readLock().lock();
+    try {
+      openJobs = index.openJobs.cardinality();
+      terms = index.postings.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+    log.info("Built job recommendation index with {} open jobs and {} terms in {} ms",
+        openJobs, terms, System.currentTimeMillis() - started);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onJobChanged(JobChangedEvent event) {
+    IndexedJob job = event.changeType() != JobChangedEvent.ChangeType.DELETED ? load(event.jobId()) : null;
+    int jobId = event.jobId().intValue();
+    IndexedJob previous = apply(jobId, job);
+    if (Objects.equals(previous, job)) {
+      return;
+    }
+    generation.incrementAndGet();
+    IndexedJob current = job;
+    cache.asMap().values().removeIf(cached -> cached.contains(jobId) || cached.couldMatch(current));
+  }
+
+  private IndexedJob load(Long jobId) {
+    return jobRepository.findById(jobId)
+        .filter(j -> j.getStatus() == JobStatus.OPEN)
+        .map(IndexedJob::of)
+        .orElse(null);
+  }
+
+  private IndexedJob apply(int jobId, IndexedJob job) {
+    lock.writeLock().lock();
+    try {
+      if (changedDuringRebuild != null) {
+        changedDuringRebuild.add(jobId);
+      }
+      return index.apply(jobId, job);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static <K> void clear(Map<K, BitSet> index, K key, int jobId) {
+    BitSet jobs = index.get(key);
+    if (jobs != null) {
+      jobs.clear(jobId);
+      if (jobs.isEmpty()) {
+        index.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Scores every job sharing a term with the seeker's skills by the summed inverse document
+   * frequency of the shared terms, plus a boost for a matching location. Seekers with nothing
+   * to match on get the newest open jobs.
+   */
+  private Recommendations compute(User seeker) {
+    String skills = profileRepository.findByUser(seeker).map(Profile::getSkills).orElse(null);
+    int[] terms = MatchVector.terms(skills);
+    String location = JobFacetQuery.normalizeLocation(seeker.getLocation());
+
+    lock.readLock().lock();
+    try {
+      Map<Integer, BitSet> postings = index.postings;
+      Map<String, BitSet> locations = index.locations;
+      BitSet openJobs = index.openJobs;
+      float[] scores = new float[openJobs.length()];
+      BitSet candidates = new BitSet();
+      int jobCount = openJobs.cardinality();
+      for (int term : terms) {
+        BitSet jobs = postings.get(term);
+        if (jobs == null) {
+          continue;
+        }
+        float idf = (float) Math.log(1 + (double) jobCount / jobs.cardinality());
+        for (int id = jobs.nextSetBit(0); id >= 0; id = jobs.nextSetBit(id + 1)) {
+          scores[id] += idf;
+        }
+        candidates.or(jobs);
+      }
+      BitSet local = location != null ? locations.get(location) : null;
+      if (local != null) {
+        for (int id = local.nextSetBit(0); id >= 0; id = local.nextSetBit(id + 1)) {
+          scores[id] += locationBoost;
+        }
+        candidates.or(local);
+      }
+
+      if (candidates.isEmpty()) {
+        return new Recommendations(terms, location, newestOpenJobs(openJobs), true);
+      }
+      return new Recommendations(terms, location, topK(candidates, scores), false);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private long[] topK(BitSet candidates, float[] scores) {
+    PriorityQueue<Integer> heap = new PriorityQueue<>(MAX_RECOMMENDATIONS + 1,
+        (a, b) -> scores[a] != scores[b] ? Float.compare(scores[a], scores[b]) : Integer.compare(a, b));
+    for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+      heap.offer(id);
+      if (heap.size() > MAX_RECOMMENDATIONS) {
+        heap.poll();
+      }
+    }
+    long[] ranked = new long[heap.size()];
+    for (int i = ranked.length - 1; i >= 0; i--) {
+      ranked[i] = heap.poll();
+    }
+    return ranked;
+  }
+
+  private long[] newestOpenJobs(BitSet openJobs) {
+    List<Long> ids = new ArrayList<>(MAX_RECOMMENDATIONS);
+    for (int id = openJobs.length() - 1; id >= 0 && ids.size() < MAX_RECOMMENDATIONS; id = openJobs.previousSetBit(id - 1)) {
+      ids.add((long) id);
+    }
+    return ids.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  /**
+   * The inverted index itself. Guarded by {@code lock} once published; {@link #rebuild()} fills
+   * a fresh one privately before swapping it in.
+   */
+  private static final class Index {
+
+    private final Map<Integer, BitSet> postings = new HashMap<>();
+    private final Map<String, BitSet> locations = new HashMap<>();
+    private final Map<Integer, IndexedJob> indexed = new HashMap<>();
+    private final BitSet openJobs = new BitSet();
+
+    IndexedJob apply(int jobId, IndexedJob job) {
+      IndexedJob previous = job != null ? indexed.put(jobId, job) : indexed.remove(jobId);
+      if (Objects.equals(previous, job)) {
+        return previous;
+      }
+      if (previous != null) {
+        for (int term : previous.terms()) {
+          clear(postings, term, jobId);
+        }
+        if (previous.location() != null) {
+          clear(locations, previous.location(), jobId);
+        }
+        openJobs.clear(jobId);
+      }
+      if (job != null) {
+        for (int term : job.terms()) {
+          postings.computeIfAbsent(term, t -> new BitSet()).set(jobId);
+        }
+        if (job.location() != null) {
+          locations.computeIfAbsent(job.location(), l -> new BitSet()).set(jobId);
+        }
+        openJobs.set(jobId);
+      }
+      return previous;
+    }
+  }
+
+  private record IndexedJob(int[] terms, String location) {
+
+    static IndexedJob of(Job job) {
+      return new IndexedJob(MatchVector.terms(job.getTitle(), job.getRequirements()),
+          JobFacetQuery.normalizeLocation(job.getLocation()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof IndexedJob that
+          && Arrays.equals(terms, that.terms)
+          && Objects.equals(location, that.location);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Arrays.hashCode(terms) + Objects.hashCode(location);
+    }
+  }
+
+  /**
+   * A seeker's cached ranking, with the inputs it was computed from so job changes can tell
+   * whether it might be affected.
+   */
+  private record Recommendations(int[] terms, String location, long[] jobIds, boolean newest) {
+
+    boolean contains(int jobId) {
+      for (long id : jobIds) {
+        if (id == jobId) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    boolean couldMatch(IndexedJob job) {
+      if (job == null) {
+        return false;
+      }
+      if (newest) {
+        return true;
+      }
+      if (location != null && location.equals(job.location())) {
+        return true;
+      }
+      int i = 0;
+      int j = 0;
+      while (i < terms.length && j < job.terms().length) {
+        if (terms[i] == job.terms()[j]) {
+          return true;
+        }
+        if (terms[i] < job.terms()[j]) {
+          i++;
+        } else {
+          j++;
+        }
+      }
+      return false;
+    }
+  }
+}
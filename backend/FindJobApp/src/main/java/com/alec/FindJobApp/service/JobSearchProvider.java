@@ -0,0 +1,33 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.dto.JobFacetQuery;
+import com.alec.FindJobApp.model.Job;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Map;
+
+/**
+ * Keyword search over jobs. The active implementation is chosen with {@code app.search.mode}
+ * ({@code index} for the embedded Lucene index, {@code postgres} for in-database full-text search).
+ */
+public interface JobSearchProvider {
+
+  void index(Job job);
+
+  void remove(Long jobId);
+
+  Page<Long> search(String keyword, Pageable pageable);
+
+  /**
+   * Searches open jobs and counts the matches per job type, location and salary band in the
+   * same pass. Facet maps are keyed by value; ordering is left to the caller.
+   */
+  FacetedIds searchWithFacets(JobFacetQuery query, Pageable pageable);
+
+  record FacetedIds(Page<Long> ids,
+                    Map<String, Long> jobTypes,
+                    Map<String, Long> locations,
+                    Map<String, Long> salaryBands) {
+  }
+}
@@ -1,27 +1,64 @@
 package com.alec.FindJobApp.service;
 
+import com.alec.FindJobApp.config.CacheConfig;
+import com.alec.FindJobApp.dto.CursorPage;
+import com.alec.FindJobApp.dto.FacetedJobPage;
 import com.alec.FindJobApp.dto.JobDTO;
+import com.alec.FindJobApp.dto.JobFacetQuery;
+import com.alec.FindJobApp.dto.JobPipelineDTO;
 import com.alec.FindJobApp.dto.JobRequest;
+import com.alec.FindJobApp.dto.JobSearchCriteria;
+import com.alec.FindJobApp.dto.JobVersion;
+import com.alec.FindJobApp.event.JobChangedEvent;
 import com.alec.FindJobApp.exception.BadRequestException;
 import com.alec.FindJobApp.exception.ResourceNotFoundException;
+import com.alec.FindJobApp.model.ApplicationStatus;
 import com.alec.FindJobApp.model.Job;
 import com.alec.FindJobApp.model.JobStatus;
 import com.alec.FindJobApp.model.JobType;
 import com.alec.FindJobApp.model.Role;
 import com.alec.FindJobApp.model.User;
 import com.alec.FindJobApp.repository.JobRepository;
+import com.alec.FindJobApp.repository.JobSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class JobService {
 
   private final JobRepository jobRepository;
   private final UserService userService;
+  private final JobSearchProvider jobSearchProvider;
+  private final MatchScoreService matchScoreService;
+  private final FileReclamationService fileReclamationService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+  private static final int MAX_LOCATION_FACETS = 20;
+
+  private record Cursor(LocalDateTime createdAt, Long id) {
+  }
 
   public JobDTO toDTO(Job job) {
     return JobDTO.builder()
@@ -64,7 +101,10 @@ public class JobService {
         .recruiter(recruiter)
         .build();
 
-    return toDTO(jobRepository.save(job));
+    Job saved = jobRepository.save(job);
+    jobSearchProvider.index(saved);
+    eventPublisher.publishEvent(new JobChangedEvent(saved.getId(), JobChangedEvent.ChangeType.CREATED));
+    return toDTO(saved);
   }
 
   public Job getJobById(Long id) {
@@ -72,36 +112,167 @@ public class JobService {
         .orElseThrow(() -> new ResourceNotFoundException("Job", "id", id));
   }
 
+  public Long getRecruiterId(Long jobId) {
+    return jobRepository.findRecruiterIdById(jobId)
+        .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+  }
+
+  public JobVersion getJobVersion(Long id) {
+    return jobRepository.findVersionById(id)
+        .orElseThrow(() -> new ResourceNotFoundException("Job", "id", id));
+  }
+
   public JobDTO getJobDTOById(Long id) {
     return toDTO(getJobById(id));
   }
 
   public Page<JobDTO> getAllJobs(Pageable pageable) {
-    return jobRepository.findAll(pageable).map(this::toDTO);
+    return jobRepository.findAllJobDTOs(pageable);
   }
 
+  @Cacheable(cacheNames = CacheConfig.OPEN_JOBS_CACHE,
+      key = "{null, #pageable.pageNumber, #pageable.pageSize, #pageable.sort}")
   public Page<JobDTO> getOpenJobs(Pageable pageable) {
-    return jobRepository.findByStatusOrderByCreatedAtDesc(JobStatus.OPEN, pageable)
-        .map(this::toDTO);
+    return jobRepository.findJobDTOsByStatus(JobStatus.OPEN, pageable);
+  }
+
+  public Page<JobDTO> queryJobs(JobSearchCriteria criteria, Pageable pageable) {
+    if (criteria.getMinSalary() != null && criteria.getMaxSalary() != null
+        && criteria.getMinSalary().compareTo(criteria.getMaxSalary()) > 0) {
+      throw new BadRequestException("minSalary must not be greater than maxSalary");
+    }
+    return jobRepository.findAll(JobSpecifications.matching(criteria), pageable).map(this::toDTO);
   }
 
   public Page<JobDTO> searchJobs(String keyword, Pageable pageable) {
-    return jobRepository.searchJobs(keyword, pageable).map(this::toDTO);
+    return hydrate(jobSearchProvider.search(keyword, pageable), pageable);
+  }
+
+  public FacetedJobPage searchJobsWithFacets(JobFacetQuery query, Pageable pageable) {
+    JobSearchProvider.FacetedIds result = jobSearchProvider.searchWithFacets(query, pageable);
+    return FacetedJobPage.builder()
+        .results(hydrate(result.ids(), pageable))
+        .jobTypes(sortFacet(result.jobTypes(), Integer.MAX_VALUE))
+        .locations(sortFacet(result.locations(), MAX_LOCATION_FACETS))
+        .salaryBands(sortFacet(result.salaryBands(), Integer.MAX_VALUE))
+        .build();
+  }
+
+  private Map<String, Long> sortFacet(Map<String, Long> counts, int limit) {
+    return counts.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+        .limit(limit)
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+  }
+
+  private Page<JobDTO> hydrate(Page<Long> rankedIds, Pageable pageable) {
+    return new PageImpl<>(getJobsByIds(rankedIds.getContent()), pageable, rankedIds.getTotalElements());
+  }
+
+  /**
+   * Loads jobs by primary key, preserving the order of {@code ids} and skipping missing ones.
+   */
+  public List<JobDTO> getJobsByIds(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, JobDTO> jobsById = jobRepository.findJobDTOsByIdIn(ids).stream()
+        .collect(Collectors.toMap(JobDTO::getId, Function.identity()));
+    return ids.stream()
+        .map(jobsById::get)
+        .filter(Objects::nonNull)
+        .toList();
   }
 
+  @Cacheable(cacheNames = CacheConfig.OPEN_JOBS_CACHE,
+      key = "{#jobType, #pageable.pageNumber, #pageable.pageSize, #pageable.sort}")
   public Page<JobDTO> getOpenJobsByType(JobType jobType, Pageable pageable) {
-    Page<Job> jobs;
     if (jobType != null) {
-      jobs = jobRepository.findByStatusAndJobType(JobStatus.OPEN, jobType, pageable);
+      return jobRepository.findJobDTOsByStatusAndJobType(JobStatus.OPEN, jobType, pageable);
+    }
+    return jobRepository.findJobDTOsByStatus(JobStatus.OPEN, pageable);
+  }
+
+  public CursorPage<JobDTO> getOpenJobsByCursor(JobType jobType, String cursor, int size) {
+    Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+    Slice<JobDTO> jobs;
+    if (cursor == null || cursor.isBlank()) {
+      jobs = jobType != null
+          ? jobRepository.findJobDTOSliceByStatusAndJobType(JobStatus.OPEN, jobType, pageable)
+          : jobRepository.findJobDTOSliceByStatus(JobStatus.OPEN, pageable);
     } else {
-      jobs = jobRepository.findByStatusOrderByCreatedAtDesc(JobStatus.OPEN, pageable);
+      Cursor position = decodeCursor(cursor);
+      jobs = jobType != null
+          ? jobRepository.findJobDTOSliceByStatusAndJobTypeAfterCursor(
+              JobStatus.OPEN, jobType, position.createdAt(), position.id(), pageable)
+          : jobRepository.findJobDTOSliceByStatusAfterCursor(
+              JobStatus.OPEN, position.createdAt(), position.id(), pageable);
+    }
+
+    List<JobDTO> content = jobs.getContent();
+    String nextCursor = jobs.hasNext() && !content.isEmpty()
+        ? encodeCursor(content.get(content.size() - 1))
+        : null;
+
+    return CursorPage.<JobDTO>builder()
+        .content(content)
+        .size(content.size())
+        .hasNext(jobs.hasNext())
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  private String encodeCursor(JobDTO job) {
+    String position = job.getCreatedAt() + "|" + job.getId();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private Cursor decodeCursor(String cursor) {
+    try {
+      String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = position.indexOf('|');
+      return new Cursor(
+          LocalDateTime.parse(position.substring(0, separator)),
+          Long.valueOf(position.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new BadRequestException("Invalid cursor");
     }
-    return jobs.map(this::toDTO);
   }
 
   public Page<JobDTO> getMyJobs(Pageable pageable) {
     User recruiter = userService.getCurrentUser();
-    return jobRepository.findByRecruiter(recruiter, pageable).map(this::toDTO);
+    return jobRepository.findJobDTOsByRecruiterId(recruiter.getId(), pageable);
+  }
+
+  public List<JobPipelineDTO> getMyJobsPipeline() {
+    User recruiter = userService.getCurrentUser();
+    Map<Long, JobPipelineDTO> pipelines = new LinkedHashMap<>();
+    for (Object[] row : jobRepository.countApplicationsByJobAndStatus(recruiter.getId())) {
+      JobPipelineDTO pipeline = pipelines.computeIfAbsent((Long) row[0], jobId -> {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+          counts.put(status, 0L);
+        }
+        return JobPipelineDTO.builder()
+            .jobId(jobId)
+            .title((String) row[1])
+            .status((JobStatus) row[2])
+            .createdAt((LocalDateTime) row[3])
+            .counts(counts)
+            .build();
+      });
+      if (row[4] != null) {
+        long count = (Long) row[5];
+        pipeline.getCounts().put((ApplicationStatus) row[4], count);
+        pipeline.setTotal(pipeline.getTotal() + count);
+      }
+    }
+    return List.copyOf(pipelines.values());
+  }
+
+  @Transactional
+  public void decrementApplicationCount(Long jobId) {
+    jobRepository.decrementApplicationCount(jobId);
   }
 
   @Transactional
@@ -114,6 +285,9 @@ public class JobService {
       throw new BadRequestException("You can only update your own jobs");
     }
 
+    boolean matchInputsChanged = !Objects.equals(job.getTitle(), request.getTitle())
+        || !Objects.equals(job.getRequirements(), request.getRequirements());
+
     job.setTitle(request.getTitle());
     job.setDescription(request.getDescription());
     job.setCompany(request.getCompany());
@@ -126,7 +300,13 @@ public class JobService {
     job.setRequirements(request.getRequirements());
     job.setBenefits(request.getBenefits());
 
-    return toDTO(jobRepository.save(job));
+    Job saved = jobRepository.save(job);
+    jobSearchProvider.index(saved);
+    if (matchInputsChanged) {
+      matchScoreService.markStaleForJob(saved.getId());
+    }
+    eventPublisher.publishEvent(new JobChangedEvent(saved.getId(), JobChangedEvent.ChangeType.UPDATED));
+    return toDTO(saved);
   }
 
   @Transactional
@@ -140,7 +320,10 @@ public class JobService {
     }
 
     job.setStatus(status);
-    return toDTO(jobRepository.save(job));
+    Job saved = jobRepository.save(job);
+    jobSearchProvider.index(saved);
+    eventPublisher.publishEvent(new JobChangedEvent(saved.getId(), JobChangedEvent.ChangeType.STATUS_CHANGED));
+    return toDTO(saved);
   }
 
   @Transactional
@@ -153,6 +336,9 @@ public class JobService {
       throw new BadRequestException("You can only delete your own jobs");
     }
 
+    fileReclamationService.reclaimForJob(id);
     jobRepository.delete(job);
+    jobSearchProvider.remove(id);
+    eventPublisher.publishEvent(new JobChangedEvent(id, JobChangedEvent.ChangeType.DELETED));
   }
 }
@@ -0,0 +1,169 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.dto.JobSuggestion;
+import com.alec.FindJobApp.event.JobChangedEvent;
+import com.alec.FindJobApp.model.Job;
+import com.alec.FindJobApp.model.JobStatus;
+import com.alec.FindJobApp.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over the titles, companies and locations of open jobs, weighted by how many open
+ * jobs carry each value. The trie is built on startup and kept current from committed job
+ * changes by diffing each job against the values it contributed last time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobSuggestionService {
+
+  public static final int MAX_SUGGESTIONS = 10;
+  private static final int REBUILD_BATCH_SIZE = 500;
+
+  private final JobRepository jobRepository;
+
+  @Value("${app.search.suggest.max-terms:20000}")
+  private int maxTerms;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private Map<Long, JobTerms> contributed = new HashMap<>();
+  private SuggestionTrie trie;
+  // Jobs changed while rebuild() loads a fresh trie; null when no rebuild is running.
+  private Set<Long> changedDuringRebuild;
+
+  public List<JobSuggestion> suggest(String prefix, int limit) {
+    int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+    lock.readLock().lock();
+    try {
+      if (trie == null) {
+        return List.of();
+      }
+      return trie.lookup(prefix, size).stream()
+          .map(entry -> new JobSuggestion(entry.text, entry.field, entry.weight))
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Loads a fresh trie without holding the lock and swaps it in, then re-reads any job that
+   * changed meanwhile, since its row in the loaded pages may predate the change.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    long started = System.currentTimeMillis();
+    lock.writeLock().lock();
+    try {
+      changedDuringRebuild = new HashSet<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    SuggestionTrie freshTrie = new SuggestionTrie(MAX_SUGGESTIONS, maxTerms);
+    Map<Long, JobTerms> freshContributed = new HashMap<>();
+    Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+    Page<Job> batch;
+    do {
+      batch = jobRepository.findByStatus(JobStatus.OPEN, pageable);
+      for (Job job : batch) {
+        apply(freshTrie, freshContributed, job.getId(), JobTerms.of(job));
+      }
+      pageable = batch.nextPageable();
+    } while (batch.hasNext());
+
+    Set<Long> changed;
+    lock.writeLock().lock();
+    try {
+      trie = freshTrie;
+      contributed = freshContributed;
+      changed = changedDuringRebuild;
+      changedDuringRebuild = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    for (Long jobId : changed) {
+      apply(jobId, load(jobId));
+    }
+
+    int size;
+    lock.readLock().lock();
+    try {
+      size = trie.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+    log.info("Built job suggestion index with {} terms in {} ms", size, System.currentTimeMillis() - started);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onJobChanged(JobChangedEvent event) {
+    apply(event.jobId(), event.changeType() != JobChangedEvent.ChangeType.DELETED ? load(event.jobId()) : null);
+  }
+
+  private JobTerms load(Long jobId) {
+    return jobRepository.findById(jobId)
+        .filter(job -> job.getStatus() == JobStatus.OPEN)
+        .map(JobTerms::of)
+        .orElse(null);
+  }
+
+  private void apply(Long jobId, JobTerms terms) {
+    lock.writeLock().lock();
+    try {
+      if (changedDuringRebuild != null) {
+        changedDuringRebuild.add(jobId);
+      }
+      if (trie != null) {
+        apply(trie, contributed, jobId, terms);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static void apply(SuggestionTrie trie, Map<Long, JobTerms> contributed, Long jobId, JobTerms terms) {
+    JobTerms previous = terms != null ? contributed.put(jobId, terms) : contributed.remove(jobId);
+    if (Objects.equals(previous, terms)) {
+      return;
+    }
+    if (previous != null) {
+      previous.applyTo(trie, -1);
+    }
+    if (terms != null) {
+      terms.applyTo(trie, 1);
+    }
+  }
+
+  private record JobTerms(String title, String company, String location) {
+
+    static JobTerms of(Job job) {
+      return new JobTerms(job.getTitle(), job.getCompany(), job.getLocation());
+    }
+
+    void applyTo(SuggestionTrie trie, int delta) {
+      trie.add("title", title, delta);
+      trie.add("company", company, delta);
+      trie.add("location", location, delta);
+    }
+  }
+}
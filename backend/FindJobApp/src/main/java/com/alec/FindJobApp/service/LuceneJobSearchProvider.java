@@ -0,0 +1,392 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.dto.JobFacetQuery;
+import com.alec.FindJobApp.model.Job;
+import com.alec.FindJobApp.model.JobStatus;
+import com.alec.FindJobApp.model.SalaryBand;
+import com.alec.FindJobApp.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedded, memory-mapped Lucene index over the searchable job fields.
+ * Searches return ranked job ids; callers hydrate the page from the database.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.mode", havingValue = "index", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LuceneJobSearchProvider implements JobSearchProvider {
+
+  private static final String ID_FIELD = "id";
+  private static final String STATUS_FIELD = "status";
+  private static final String JOB_TYPE_FIELD = "job_type";
+  private static final String LOCATION_KEY_FIELD = "location_key";
+  private static final String SALARY_BAND_FIELD = "salary_band";
+  private static final String CREATED_AT_FIELD = "created_at";
+  private static final String[] FACET_FIELDS = {JOB_TYPE_FIELD, LOCATION_KEY_FIELD, SALARY_BAND_FIELD};
+  private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+      "title", 4.0f,
+      "company", 3.0f,
+      "location", 2.0f,
+      "requirements", 1.0f,
+      "description", 1.0f);
+  private static final int REBUILD_BATCH_SIZE = 500;
+
+  private final JobRepository jobRepository;
+
+  @Value("${app.search.index-dir:search-index}")
+  private String indexDir;
+
+  private final Analyzer analyzer = new StandardAnalyzer();
+  private MMapDirectory directory;
+  private IndexWriter writer;
+  private SearcherManager searcherManager;
+
+  @PostConstruct
+  public void open() throws IOException {
+    Path path = Paths.get(indexDir).toAbsolutePath().normalize();
+    Files.createDirectories(path);
+    directory = new MMapDirectory(path);
+    writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+        .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+    searcherManager = new SearcherManager(writer, null);
+  }
+
+  @PreDestroy
+  public void close() throws IOException {
+    searcherManager.close();
+    writer.commit();
+    writer.close();
+    directory.close();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    long started = System.currentTimeMillis();
+    try {
+      writer.deleteAll();
+      Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+      Page<Job> batch;
+      long indexed = 0;
+      do {
+        batch = jobRepository.findAll(pageable);
+        for (Job job : batch) {
+          writer.addDocument(toDocument(job));
+        }
+        indexed += batch.getNumberOfElements();
+        pageable = batch.nextPageable();
+      } while (batch.hasNext());
+      writer.commit();
+      searcherManager.maybeRefresh();
+      log.info("Rebuilt job search index with {} jobs in {} ms", indexed, System.currentTimeMillis() - started);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to rebuild job search index", e);
+    }
+  }
+
+  @Override
+  public void index(Job job) {
+    Document document = toDocument(job);
+    Term idTerm = new Term(ID_FIELD, String.valueOf(job.getId()));
+    afterCommit(() -> writer.updateDocument(idTerm, document));
+  }
+
+  @Override
+  public void remove(Long jobId) {
+    Term idTerm = new Term(ID_FIELD, String.valueOf(jobId));
+    afterCommit(() -> writer.deleteDocuments(idTerm));
+  }
+
+  @Override
+  public Page<Long> search(String keyword, Pageable pageable) {
+    Query query = buildQuery(keyword);
+    if (query == null) {
+      return Page.empty(pageable);
+    }
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        TopDocs topDocs = searcher.search(query, new TopScoreDocCollectorManager(limit(pageable), Integer.MAX_VALUE));
+        return toIdPage(searcher, topDocs, pageable);
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Job search failed", e);
+    }
+  }
+
+  @Override
+  public FacetedIds searchWithFacets(JobFacetQuery facetQuery, Pageable pageable) {
+    BooleanQuery.Builder query = new BooleanQuery.Builder()
+        .add(new TermQuery(new Term(STATUS_FIELD, JobStatus.OPEN.name())), BooleanClause.Occur.FILTER);
+    if (facetQuery.keyword() != null) {
+      Query keywordQuery = buildQuery(facetQuery.keyword());
+      if (keywordQuery == null) {
+        return new FacetedIds(Page.empty(pageable), Map.of(), Map.of(), Map.of());
+      }
+      query.add(keywordQuery, BooleanClause.Occur.MUST);
+    }
+    addFilter(query, JOB_TYPE_FIELD, facetQuery.jobType() != null ? facetQuery.jobType().name() : null);
+    addFilter(query, LOCATION_KEY_FIELD, facetQuery.location());
+    addFilter(query, SALARY_BAND_FIELD, facetQuery.salaryBand() != null ? facetQuery.salaryBand().name() : null);
+
+    // Keyword searches are ranked by relevance, plain browsing by recency.
+    CollectorManager<?, ? extends TopDocs> topDocsManager = facetQuery.keyword() != null
+        ? new TopScoreDocCollectorManager(limit(pageable), Integer.MAX_VALUE)
+        : new TopFieldCollectorManager(new org.apache.lucene.search.Sort(new SortField(CREATED_AT_FIELD, SortField.Type.LONG, true)),
+            limit(pageable), Integer.MAX_VALUE);
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        Object[] results = searcher.search(query.build(),
+            new MultiCollectorManager(topDocsManager, new FacetCountsCollectorManager()));
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Long>> facets = (Map<String, Map<String, Long>>) results[1];
+        return new FacetedIds(toIdPage(searcher, (TopDocs) results[0], pageable),
+            facets.get(JOB_TYPE_FIELD), facets.get(LOCATION_KEY_FIELD), facets.get(SALARY_BAND_FIELD));
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Faceted job search failed", e);
+    }
+  }
+
+  private int limit(Pageable pageable) {
+    return (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+  }
+
+  private Page<Long> toIdPage(IndexSearcher searcher, TopDocs topDocs, Pageable pageable) throws IOException {
+    StoredFields storedFields = searcher.storedFields();
+    List<Long> ids = new ArrayList<>(pageable.getPageSize());
+    for (int i = (int) pageable.getOffset(); i < topDocs.scoreDocs.length; i++) {
+      ids.add(Long.valueOf(storedFields.document(topDocs.scoreDocs[i].doc).get(ID_FIELD)));
+    }
+    return new PageImpl<>(ids, pageable, topDocs.totalHits.value);
+  }
+
+  private void addFilter(BooleanQuery.Builder query, String field, String value) {
+    if (value != null) {
+      query.add(new TermQuery(new Term(field, value)), BooleanClause.Occur.FILTER);
+    }
+  }
+
+  private Query buildQuery(String keyword) {
+    List<String> terms = analyze(keyword);
+    if (terms.isEmpty()) {
+      return null;
+    }
+
+    // Every keyword term must match in at least one field; exact matches outrank prefix matches.
+    BooleanQuery.Builder query = new BooleanQuery.Builder();
+    for (String term : terms) {
+      BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+      FIELD_BOOSTS.forEach((field, boost) -> {
+        anyField.add(new BoostQuery(new TermQuery(new Term(field, term)), boost), BooleanClause.Occur.SHOULD);
+        anyField.add(new BoostQuery(new PrefixQuery(new Term(field, term)), boost / 2), BooleanClause.Occur.SHOULD);
+      });
+      query.add(anyField.build(), BooleanClause.Occur.MUST);
+    }
+    return query.build();
+  }
+
+  private List<String> analyze(String text) {
+    List<String> terms = new ArrayList<>();
+    if (text == null || text.isBlank()) {
+      return terms;
+    }
+    try (TokenStream stream = analyzer.tokenStream("keyword", text)) {
+      CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+      stream.reset();
+      while (stream.incrementToken()) {
+        terms.add(termAttribute.toString());
+      }
+      stream.end();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return terms;
+  }
+
+  private Document toDocument(Job job) {
+    Document document = new Document();
+    document.add(new StringField(ID_FIELD, String.valueOf(job.getId()), Field.Store.YES));
+    document.add(new StringField(STATUS_FIELD, job.getStatus().name(), Field.Store.NO));
+    addFacet(document, JOB_TYPE_FIELD, job.getJobType().name());
+    addFacet(document, LOCATION_KEY_FIELD, JobFacetQuery.normalizeLocation(job.getLocation()));
+    addFacet(document, SALARY_BAND_FIELD, SalaryBand.of(job.getSalary()).name());
+    if (job.getCreatedAt() != null) {
+      document.add(new NumericDocValuesField(CREATED_AT_FIELD,
+          job.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+    }
+    addText(document, "title", job.getTitle());
+    addText(document, "company", job.getCompany());
+    addText(document, "location", job.getLocation());
+    addText(document, "description", job.getDescription());
+    addText(document, "requirements", job.getRequirements());
+    return document;
+  }
+
+  private void addFacet(Document document, String field, String value) {
+    if (value != null) {
+      document.add(new StringField(field, value, Field.Store.NO));
+      document.add(new SortedDocValuesField(field, new BytesRef(value)));
+    }
+  }
+
+  private void addText(Document document, String field, String value) {
+    if (value != null) {
+      document.add(new TextField(field, value, Field.Store.NO));
+    }
+  }
+
+  private void afterCommit(IndexOperation operation) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          apply(operation);
+        }
+      });
+    } else {
+      apply(operation);
+    }
+  }
+
+  private void apply(IndexOperation operation) {
+    try {
+      operation.run();
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      log.error("Failed to update job search index: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Counts matching documents per facet value. Counts are kept per segment ordinal while
+   * collecting and resolved to labels once per segment.
+   */
+  private static final class FacetCountsCollectorManager
+      implements CollectorManager<FacetCountsCollector, Map<String, Map<String, Long>>> {
+
+    @Override
+    public FacetCountsCollector newCollector() {
+      return new FacetCountsCollector();
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> reduce(Collection<FacetCountsCollector> collectors) {
+      Map<String, Map<String, Long>> merged = new HashMap<>();
+      for (String field : FACET_FIELDS) {
+        merged.put(field, new HashMap<>());
+      }
+      for (FacetCountsCollector collector : collectors) {
+        collector.counts.forEach((field, counts) ->
+            counts.forEach((value, count) -> merged.get(field).merge(value, count, Long::sum)));
+      }
+      return merged;
+    }
+  }
+
+  private static final class FacetCountsCollector implements Collector {
+
+    private final Map<String, Map<String, Long>> counts = new HashMap<>();
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+      SortedDocValues[] values = new SortedDocValues[FACET_FIELDS.length];
+      int[][] ordinalCounts = new int[FACET_FIELDS.length][];
+      for (int i = 0; i < FACET_FIELDS.length; i++) {
+        values[i] = DocValues.getSorted(context.reader(), FACET_FIELDS[i]);
+        ordinalCounts[i] = new int[values[i].getValueCount()];
+      }
+
+      return new LeafCollector() {
+        @Override
+        public void setScorer(Scorable scorer) {
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+          for (int i = 0; i < values.length; i++) {
+            if (values[i].advanceExact(doc)) {
+              ordinalCounts[i][values[i].ordValue()]++;
+            }
+          }
+        }
+
+        @Override
+        public void finish() throws IOException {
+          for (int i = 0; i < values.length; i++) {
+            Map<String, Long> fieldCounts = counts.computeIfAbsent(FACET_FIELDS[i], field -> new HashMap<>());
+            for (int ord = 0; ord < ordinalCounts[i].length; ord++) {
+              if (ordinalCounts[i][ord] > 0) {
+                fieldCounts.merge(values[i].lookupOrd(ord).utf8ToString(), (long) ordinalCounts[i][ord], Long::sum);
+              }
+            }
+          }
+        }
+      };
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+      return ScoreMode.COMPLETE_NO_SCORES;
+    }
+  }
+
+  @FunctionalInterface
+  private interface IndexOperation {
+    void run() throws IOException;
+  }
+}
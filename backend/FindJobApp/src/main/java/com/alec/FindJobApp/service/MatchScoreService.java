@@ -0,0 +1,138 @@
+package com.alec.FindJobApp.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Precomputes how well a seeker's profile (skills, experience) matches a job (title,
+ * requirements) and stores it in {@code applications.match_score}. A NULL score means "needs
+ * scoring": new applications start NULL, and profile or job edits reset the affected rows.
+ * A single background worker drains NULL rows after commit, so requests never pay for scoring.
+ */
+@Service
+@Slf4j
+public class MatchScoreService {
+
+  private static final String CLAIM_SQL = "SELECT a.id, a.job_id, j.title, j.requirements, p.skills, p.experience " +
+      "FROM applications a JOIN jobs j ON j.id = a.job_id LEFT JOIN profiles p ON p.user_id = a.seeker_id " +
+      "WHERE a.match_score IS NULL ORDER BY a.id LIMIT ? FOR UPDATE OF a SKIP LOCKED";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "match-score");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean drainQueued = new AtomicBoolean();
+
+  @Value("${app.match-score.batch-size:200}")
+  private int batchSize;
+
+  public MatchScoreService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  public void markStaleForJob(Long jobId) {
+    jdbcTemplate.update("UPDATE applications SET match_score = NULL WHERE job_id = ?", jobId);
+    requestScoring();
+  }
+
+  public void markStaleForSeeker(Long seekerId) {
+    jdbcTemplate.update("UPDATE applications SET match_score = NULL WHERE seeker_id = ?", seekerId);
+    requestScoring();
+  }
+
+  /**
+   * Wakes the worker once the current transaction commits, or immediately outside one.
+   */
+  public void requestScoring() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          queueDrain();
+        }
+      });
+    } else {
+      queueDrain();
+    }
+  }
+
+  /**
+   * Safety net for wake-ups lost to a restart; also scores rows that predate the column.
+   */
+  @Scheduled(fixedDelayString = "${app.match-score.sweep-interval-ms:300000}", initialDelay = 10000)
+  public void sweep() {
+    queueDrain();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    worker.shutdownNow();
+  }
+
+  private void queueDrain() {
+    if (drainQueued.compareAndSet(false, true)) {
+      worker.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    drainQueued.set(false);
+    try {
+      int scored;
+      int total = 0;
+      do {
+        Integer batch = transactionTemplate.execute(status -> scoreBatch());
+        scored = batch != null ? batch : 0;
+        total += scored;
+      } while (scored == batchSize);
+      if (total > 0) {
+        log.debug("Scored {} applications", total);
+      }
+    } catch (RuntimeException e) {
+      log.error("Match scoring failed: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Claimed rows stay locked until the scores are written, so a concurrent profile or job edit
+   * either commits first (and is read here) or waits and resets the score afterwards.
+   */
+  private int scoreBatch() {
+    Map<Long, MatchVector> jobVectors = new HashMap<>();
+    List<Object[]> updates = new ArrayList<>(batchSize);
+    jdbcTemplate.query(CLAIM_SQL, resultSet -> {
+      long jobId = resultSet.getLong(2);
+      MatchVector job = jobVectors.get(jobId);
+      if (job == null) {
+        job = MatchVector.of(resultSet.getString(3), resultSet.getString(4));
+        jobVectors.put(jobId, job);
+      }
+      MatchVector seeker = MatchVector.of(resultSet.getString(5), resultSet.getString(6));
+      updates.add(new Object[] { job.cosine(seeker), resultSet.getLong(1) });
+    }, batchSize);
+    if (!updates.isEmpty()) {
+      jdbcTemplate.batchUpdate("UPDATE applications SET match_score = ? WHERE id = ?", updates);
+    }
+    return updates.size();
+  }
+}
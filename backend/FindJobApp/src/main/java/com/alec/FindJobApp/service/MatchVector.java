@@ -0,0 +1,127 @@
+package com.alec.FindJobApp.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Sparse, L2-normalised term vector over feature-hashed tokens. Terms and weights live in
+ * parallel primitive arrays sorted by term, so cosine similarity is a single merge pass.
+ */
+final class MatchVector {
+
+  private static final int DIMENSIONS = 1 << 20;
+  private static final int MIN_TOKEN_LENGTH = 2;
+  private static final Set<String> STOP_WORDS = Set.of(
+      "and", "or", "the", "a", "an", "of", "in", "on", "for", "to", "with", "at", "by", "as",
+      "is", "are", "be", "we", "you", "our", "your", "will", "years", "year", "experience",
+      "knowledge", "strong", "good", "skills", "ability", "etc");
+
+  static final MatchVector EMPTY = new MatchVector(new int[0], new float[0]);
+
+  private final int[] terms;
+  private final float[] weights;
+
+  private MatchVector(int[] terms, float[] weights) {
+    this.terms = terms;
+    this.weights = weights;
+  }
+
+  static MatchVector of(String... texts) {
+    int[] hashes = tokenHashes(texts);
+    if (hashes.length == 0) {
+      return EMPTY;
+    }
+
+    int[] terms = new int[hashes.length];
+    float[] weights = new float[hashes.length];
+    int distinct = 0;
+    for (int i = 0; i < hashes.length; ) {
+      int j = i;
+      while (j < hashes.length && hashes[j] == hashes[i]) {
+        j++;
+      }
+      terms[distinct] = hashes[i];
+      weights[distinct] = 1f + (float) Math.log(j - i);
+      distinct++;
+      i = j;
+    }
+
+    double norm = 0;
+    for (int i = 0; i < distinct; i++) {
+      norm += weights[i] * weights[i];
+    }
+    float scale = (float) (1 / Math.sqrt(norm));
+    for (int i = 0; i < distinct; i++) {
+      weights[i] *= scale;
+    }
+    return new MatchVector(Arrays.copyOf(terms, distinct), Arrays.copyOf(weights, distinct));
+  }
+
+  /**
+   * Distinct hashed terms of the texts in ascending order, tokenized exactly as {@link #of}.
+   */
+  static int[] terms(String... texts) {
+    return Arrays.stream(tokenHashes(texts)).distinct().toArray();
+  }
+
+  private static int[] tokenHashes(String... texts) {
+    int[] hashes = new int[16];
+    int count = 0;
+    for (String text : texts) {
+      if (text == null) {
+        continue;
+      }
+      String lower = text.toLowerCase(Locale.ROOT);
+      int start = -1;
+      for (int i = 0; i <= lower.length(); i++) {
+        boolean tokenChar = i < lower.length() && isTokenChar(lower.charAt(i));
+        if (tokenChar && start < 0) {
+          start = i;
+        } else if (!tokenChar && start >= 0) {
+          String token = lower.substring(start, i);
+          start = -1;
+          if (token.length() < MIN_TOKEN_LENGTH || STOP_WORDS.contains(token)) {
+            continue;
+          }
+          if (count == hashes.length) {
+            hashes = Arrays.copyOf(hashes, count * 2);
+          }
+          hashes[count++] = hash(token);
+        }
+      }
+    }
+    Arrays.sort(hashes, 0, count);
+    return Arrays.copyOf(hashes, count);
+  }
+
+  /**
+   * Cosine similarity in [0, 1]; both vectors are already unit length, so this is the dot product.
+   */
+  float cosine(MatchVector other) {
+    float dot = 0;
+    int i = 0;
+    int j = 0;
+    while (i < terms.length && j < other.terms.length) {
+      int a = terms[i];
+      int b = other.terms[j];
+      if (a == b) {
+        dot += weights[i++] * other.weights[j++];
+      } else if (a < b) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return Math.min(1f, dot);
+  }
+
+  private static boolean isTokenChar(char c) {
+    return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+  }
+
+  private static int hash(String token) {
+    int h = token.hashCode() * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & (DIMENSIONS - 1);
+  }
+}
@@ -0,0 +1,30 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.config.CacheConfig;
+import com.alec.FindJobApp.event.JobChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops every cached open-job page once a job change has committed. Any create, edit, status
+ * change or delete can shift rows across page boundaries, so the cache is cleared as a whole.
+ * Application count changes publish no event and are left to expire with the TTL; see
+ * {@link CacheConfig}.
+ */
+@Service
+@RequiredArgsConstructor
+public class OpenJobsCacheInvalidator {
+
+  private final CacheManager cacheManager;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onJobChanged(JobChangedEvent event) {
+    Cache cache = cacheManager.getCache(CacheConfig.OPEN_JOBS_CACHE);
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+}
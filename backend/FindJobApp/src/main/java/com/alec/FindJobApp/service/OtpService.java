@@ -28,8 +28,8 @@ public class OtpService {
     user.setOtpExpiry(LocalDateTime.now().plusMinutes(OTP_EXPIRY_MINUTES));
     userRepository.save(user);
 
-    emailService.sendOtpEmail(user.getEmail(), user.getFullName(), otp);
-    log.info("OTP sent to user: {}", user.getEmail());
+    emailService.queueOtpEmail(user.getEmail(), user.getFullName(), otp, user.getOtpExpiry());
+    log.info("OTP queued for user: {}", user.getEmail());
   }
 
   @Transactional
@@ -0,0 +1,215 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.model.OutboxEvent;
+import com.alec.FindJobApp.model.OutboxStatus;
+import com.alec.FindJobApp.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers outbox events. Each batch is leased in a short transaction that pushes its next
+ * attempt past the lease window, the mail is sent with no transaction or lock held, and a second
+ * short transaction deletes or reschedules the events. Concurrent dispatchers, here or on other
+ * instances, skip leased events; an event whose dispatcher dies mid-send is picked up again once
+ * its lease runs out, so delivery is at least once. Failures are retried with exponential backoff and parked after the last
+ * attempt. Events carrying an OTP or reset link are dropped once a retry would land after their
+ * expiry, and parked failures are purged after a retention window.
+ */
+@Service
+@Slf4j
+public class OutboxDispatcher {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final JavaMailSender mailSender;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "outbox-dispatcher");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean dispatchQueued = new AtomicBoolean();
+
+  @Value("${spring.mail.username}")
+  private String fromEmail;
+
+  @Value("${app.outbox.batch-size:50}")
+  private int batchSize;
+
+  @Value("${app.outbox.max-attempts:8}")
+  private int maxAttempts;
+
+  @Value("${app.outbox.initial-backoff:30s}")
+  private Duration initialBackoff;
+
+  // Must exceed the time to send a full batch, including the SMTP timeouts, or a slow batch may
+  // be leased and sent again by another dispatcher.
+  @Value("${app.outbox.lease:5m}")
+  private Duration lease;
+
+  @Value("${app.outbox.failed-retention:7d}")
+  private Duration failedRetention;
+
+  public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                          JavaMailSender mailSender,
+                          PlatformTransactionManager transactionManager) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.mailSender = mailSender;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Wakes the dispatcher once the current transaction commits, or immediately outside one.
+   */
+  public void requestDispatch() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          queueDispatch();
+        }
+      });
+    } else {
+      queueDispatch();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:5000}", initialDelay = 5000)
+  public void poll() {
+    queueDispatch();
+  }
+
+  @Scheduled(fixedDelayString = "${app.outbox.purge-interval-ms:60000}", initialDelay = 60000)
+  public void purge() {
+    LocalDateTime now = LocalDateTime.now();
+    int purged = outboxEventRepository.purge(now, now.minus(failedRetention));
+    if (purged > 0) {
+      log.info("Purged {} expired or long-failed outbox events", purged);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    worker.shutdownNow();
+  }
+
+  private void queueDispatch() {
+    if (dispatchQueued.compareAndSet(false, true)) {
+      worker.execute(this::dispatch);
+    }
+  }
+
+  private void dispatch() {
+    dispatchQueued.set(false);
+    try {
+      int leased;
+      do {
+        leased = dispatchBatch();
+      } while (leased == batchSize);
+    } catch (RuntimeException e) {
+      log.error("Outbox dispatch failed: {}", e.getMessage(), e);
+    }
+  }
+
+  private int dispatchBatch() {
+    LocalDateTime leasedAt = LocalDateTime.now();
+    List<OutboxEvent> events = outboxEventRepository.leaseDue(leasedAt, leasedAt.plus(lease), batchSize);
+    if (events.isEmpty()) {
+      return 0;
+    }
+
+    SimpleMailMessage[] messages = events.stream().map(this::toMessage).toArray(SimpleMailMessage[]::new);
+    Map<Object, Exception> failures = Map.of();
+    try {
+      mailSender.send(messages);
+    } catch (MailSendException e) {
+      failures = e.getFailedMessages();
+      if (failures.isEmpty()) {
+        failures = allFailed(messages, e);
+      }
+    } catch (RuntimeException e) {
+      failures = allFailed(messages, e);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    List<OutboxEvent> finished = new ArrayList<>(events.size());
+    List<OutboxEvent> retrying = new ArrayList<>();
+    int failed = 0;
+    for (int i = 0; i < events.size(); i++) {
+      Exception failure = failures.get(messages[i]);
+      if (failure != null) {
+        failed++;
+      }
+      if (failure == null || !scheduleRetry(events.get(i), failure, now)) {
+        finished.add(events.get(i));
+      } else {
+        retrying.add(events.get(i));
+      }
+    }
+    transactionTemplate.executeWithoutResult(status -> {
+      outboxEventRepository.deleteAllInBatch(finished);
+      outboxEventRepository.saveAll(retrying);
+    });
+    log.info("Dispatched {} outbox events ({} failed)", events.size() - failed, failed);
+    return events.size();
+  }
+
+  /**
+   * Returns false when the event should be dropped instead: its code or link would have expired
+   * by the next attempt.
+   */
+  private boolean scheduleRetry(OutboxEvent event, Exception failure, LocalDateTime now) {
+    event.setAttempts(event.getAttempts() + 1);
+    event.setLastError(failure.getMessage());
+    LocalDateTime nextAttemptAt = now.plus(initialBackoff.multipliedBy(1L << Math.min(event.getAttempts() - 1, 20)));
+    if (event.getExpiresAt() != null && !nextAttemptAt.isBefore(event.getExpiresAt())) {
+      log.warn("Dropping outbox event {} ({}) after {} attempts: it expires before the next retry: {}",
+          event.getId(), event.getEventType(), event.getAttempts(), failure.getMessage());
+      return false;
+    }
+    if (event.getAttempts() >= maxAttempts) {
+      event.setStatus(OutboxStatus.FAILED);
+      log.error("Giving up on outbox event {} ({}) after {} attempts: {}",
+          event.getId(), event.getEventType(), event.getAttempts(), failure.getMessage());
+    } else {
+      event.setNextAttemptAt(nextAttemptAt);
+    }
+    return true;
+  }
+
+  private static Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception e) {
+    Map<Object, Exception> failures = new IdentityHashMap<>();
+    for (SimpleMailMessage message : messages) {
+      failures.put(message, e);
+    }
+    return failures;
+  }
+
+  private SimpleMailMessage toMessage(OutboxEvent event) {
+    SimpleMailMessage message = new SimpleMailMessage();
+    message.setFrom(fromEmail);
+    message.setTo(event.getRecipient());
+    message.setSubject(event.getSubject());
+    message.setText(event.getBody());
+    return message;
+  }
+}
@@ -0,0 +1,64 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.dto.JobFacetQuery;
+import com.alec.FindJobApp.model.Job;
+import com.alec.FindJobApp.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Full-text search inside PostgreSQL using the generated {@code jobs.search_vector} column
+ * (see {@code V3__add_job_search_vector.sql}). The column is maintained by the database,
+ * so there is nothing to do on job writes.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.mode", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresJobSearchProvider implements JobSearchProvider {
+
+  private final JobRepository jobRepository;
+
+  @Override
+  public void index(Job job) {
+  }
+
+  @Override
+  public void remove(Long jobId) {
+  }
+
+  @Override
+  public Page<Long> search(String keyword, Pageable pageable) {
+    if (keyword == null || keyword.isBlank()) {
+      return Page.empty(pageable);
+    }
+    // Results are ordered by rank; a client-supplied sort cannot be applied to the native query.
+    return jobRepository.fullTextSearchIds(keyword,
+        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+  }
+
+  @Override
+  public FacetedIds searchWithFacets(JobFacetQuery query, Pageable pageable) {
+    String jobType = query.jobType() != null ? query.jobType().name() : null;
+    String salaryBand = query.salaryBand() != null ? query.salaryBand().name() : null;
+
+    Page<Long> ids = jobRepository.facetedSearchIds(query.keyword(), jobType, query.location(), salaryBand,
+        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+
+    Map<String, Map<String, Long>> facets = new HashMap<>();
+    for (Object[] row : jobRepository.countFacets(query.keyword(), jobType, query.location(), salaryBand)) {
+      facets.computeIfAbsent((String) row[0], facet -> new HashMap<>())
+          .put((String) row[1], ((Number) row[2]).longValue());
+    }
+    return new FacetedIds(ids,
+        facets.getOrDefault("jobType", Map.of()),
+        facets.getOrDefault("location", Map.of()),
+        facets.getOrDefault("salaryBand", Map.of()));
+  }
+}
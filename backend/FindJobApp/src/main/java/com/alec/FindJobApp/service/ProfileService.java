@@ -3,6 +3,7 @@ package com.alec.FindJobApp.service;
 import com.alec.FindJobApp.dto.ProfileDTO;
 import com.alec.FindJobApp.exception.BadRequestException;
 import com.alec.FindJobApp.model.Profile;
+import com.alec.FindJobApp.model.Role;
 import com.alec.FindJobApp.model.User;
 import com.alec.FindJobApp.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,8 @@ public class ProfileService {
 
   private final ProfileRepository profileRepository;
   private final UserService userService;
+  private final MatchScoreService matchScoreService;
+  private final JobRecommendationService jobRecommendationService;
 
   public ProfileDTO toDTO(Profile profile) {
     return ProfileDTO.builder()
@@ -72,6 +75,10 @@ public class ProfileService {
     if (profileDTO.getPhoneNumber() != null) {
       profile.setPhoneNumber(profileDTO.getPhoneNumber());
     }
+    boolean matchInputsChanged =
+        (profileDTO.getSkills() != null && !profileDTO.getSkills().equals(profile.getSkills()))
+            || (profileDTO.getExperience() != null && !profileDTO.getExperience().equals(profile.getExperience()));
+
     if (profileDTO.getSkills() != null) {
       profile.setSkills(profileDTO.getSkills());
     }
@@ -94,6 +101,11 @@ public class ProfileService {
       profile.setCompanyDescription(profileDTO.getCompanyDescription());
     }
 
-    return toDTO(profileRepository.save(profile));
+    Profile saved = profileRepository.save(profile);
+    if (matchInputsChanged && user.getRole() == Role.SEEKER) {
+      matchScoreService.markStaleForSeeker(user.getId());
+      jobRecommendationService.evict(user.getId());
+    }
+    return toDTO(saved);
   }
 }
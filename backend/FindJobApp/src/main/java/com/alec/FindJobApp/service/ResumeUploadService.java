@@ -0,0 +1,92 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.dto.ResumeUploadDTO;
+import com.alec.FindJobApp.exception.BadRequestException;
+import com.alec.FindJobApp.model.ResumeUpload;
+import com.alec.FindJobApp.model.User;
+import com.alec.FindJobApp.repository.ResumeUploadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stages resumes on disk before an application exists. The file is copied before any database
+ * work, so applying only has to claim a handle and never holds a connection during upload I/O.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeUploadService {
+
+  private static final String RESUME_DIRECTORY = "resumes";
+
+  private final ResumeUploadRepository resumeUploadRepository;
+  private final FileStorageService fileStorageService;
+  private final UserService userService;
+
+  @Value("${app.upload.staging.ttl-minutes:60}")
+  private long ttlMinutes;
+
+  @Value("${app.upload.staging.sweep-batch-size:500}")
+  private int sweepBatchSize;
+
+  public ResumeUploadDTO stage(MultipartFile resume) {
+    if (resume == null || resume.isEmpty()) {
+      throw new BadRequestException("Resume file is required");
+    }
+
+    String storedPath = fileStorageService.storeFile(resume, RESUME_DIRECTORY);
+    try {
+      User seeker = userService.getCurrentUser();
+      ResumeUpload upload = resumeUploadRepository.save(ResumeUpload.builder()
+          .id(UUID.randomUUID().toString())
+          .seeker(seeker)
+          .storedPath(storedPath)
+          .originalFilename(resume.getOriginalFilename())
+          .sizeBytes(resume.getSize())
+          .expiresAt(LocalDateTime.now().plusMinutes(ttlMinutes))
+          .build());
+
+      return ResumeUploadDTO.builder()
+          .uploadId(upload.getId())
+          .filename(upload.getOriginalFilename())
+          .size(upload.getSizeBytes())
+          .expiresAt(upload.getExpiresAt())
+          .build();
+    } catch (RuntimeException e) {
+      fileStorageService.deleteFile(storedPath);
+      throw e;
+    }
+  }
+
+  /**
+   * Claims a staged upload for the seeker. Must run inside the caller's transaction so that a
+   * failed apply rolls the claim back and the handle stays usable.
+   */
+  public ResumeUploadRepository.StagedResume consume(String uploadId, Long seekerId) {
+    return resumeUploadRepository.consume(uploadId, seekerId, LocalDateTime.now())
+        .orElseThrow(() -> new BadRequestException("Resume upload not found or expired"));
+  }
+
+  @Scheduled(fixedDelayString = "${app.upload.staging.sweep-interval-ms:600000}")
+  public void sweepExpired() {
+    LocalDateTime now = LocalDateTime.now();
+    int swept = 0;
+    List<String> paths;
+    do {
+      paths = resumeUploadRepository.deleteExpired(now, sweepBatchSize);
+      paths.forEach(fileStorageService::deleteFile);
+      swept += paths.size();
+    } while (paths.size() == sweepBatchSize);
+    if (swept > 0) {
+      log.info("Swept {} expired resume uploads", swept);
+    }
+  }
+}
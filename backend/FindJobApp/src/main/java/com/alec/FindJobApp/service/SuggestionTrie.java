@@ -0,0 +1,228 @@
+package com.alec.FindJobApp.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Weighted prefix tree for typeahead. Every node caches its best {@code maxSuggestions}
+ * entries, so a lookup is a walk down the prefix and a copy of that node's list.
+ * Entries are reachable from the start of the value and from the start of each following
+ * word. Not thread-safe; callers guard access.
+ */
+final class SuggestionTrie {
+
+  static final int MAX_TERM_LENGTH = 100;
+  private static final int MAX_WORD_STARTS = 6;
+  private static final Comparator<Entry> BY_WEIGHT = Comparator.comparingInt((Entry entry) -> entry.weight)
+      .reversed()
+      .thenComparing(entry -> entry.normalized);
+
+  private final int maxSuggestions;
+  private final int maxTerms;
+  private final Node root = new Node();
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  SuggestionTrie(int maxSuggestions, int maxTerms) {
+    this.maxSuggestions = maxSuggestions;
+    this.maxTerms = maxTerms;
+  }
+
+  /**
+   * Adjusts the weight of a (field, text) term by {@code delta}, adding it on first sight and
+   * removing it when the weight drops to zero. New terms are dropped once the trie is full.
+   */
+  void add(String field, String text, int delta) {
+    String normalized = normalize(text);
+    if (normalized.isEmpty()) {
+      return;
+    }
+
+    String key = field + ':' + normalized;
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      if (delta <= 0 || entries.size() >= maxTerms) {
+        return;
+      }
+      entry = new Entry(field, truncate(text.trim()), normalized);
+      entries.put(key, entry);
+    }
+
+    entry.weight += delta;
+    boolean present = entry.weight > 0;
+    if (!present) {
+      entries.remove(key);
+    }
+    for (String path : paths(normalized)) {
+      update(path, entry, present);
+    }
+  }
+
+  List<Entry> lookup(String prefix, int limit) {
+    String normalized = normalize(prefix);
+    if (normalized.isEmpty()) {
+      return List.of();
+    }
+
+    Node node = root;
+    for (int i = 0; i < normalized.length() && node != null; i++) {
+      node = node.child(normalized.charAt(i));
+    }
+    if (node == null) {
+      return List.of();
+    }
+    return List.copyOf(Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length)));
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return truncate(text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT));
+  }
+
+  private static String truncate(String text) {
+    return text.length() > MAX_TERM_LENGTH ? text.substring(0, MAX_TERM_LENGTH) : text;
+  }
+
+  private static List<String> paths(String normalized) {
+    List<String> paths = new ArrayList<>();
+    paths.add(normalized);
+    for (int i = normalized.indexOf(' '); i >= 0 && paths.size() < MAX_WORD_STARTS; i = normalized.indexOf(' ', i + 1)) {
+      if (i + 1 < normalized.length()) {
+        paths.add(normalized.substring(i + 1));
+      }
+    }
+    return paths;
+  }
+
+  private void update(String path, Entry entry, boolean present) {
+    Node[] nodes = new Node[path.length() + 1];
+    nodes[0] = root;
+    for (int i = 0; i < path.length(); i++) {
+      Node next = nodes[i].child(path.charAt(i));
+      if (next == null) {
+        if (!present) {
+          return;
+        }
+        next = nodes[i].addChild(path.charAt(i));
+      }
+      nodes[i + 1] = next;
+    }
+
+    Node leaf = nodes[path.length()];
+    if (present) {
+      leaf.addTerminal(entry);
+    } else {
+      leaf.removeTerminal(entry);
+    }
+
+    // Re-rank bottom-up and prune branches that no longer lead anywhere.
+    for (int depth = path.length(); depth >= 0; depth--) {
+      Node node = nodes[depth];
+      if (depth > 0 && node.isEmpty()) {
+        nodes[depth - 1].removeChild(path.charAt(depth - 1));
+      } else {
+        node.rank(maxSuggestions);
+      }
+    }
+  }
+
+  static final class Entry {
+    final String field;
+    final String text;
+    final String normalized;
+    int weight;
+
+    private Entry(String field, String text, String normalized) {
+      this.field = field;
+      this.text = text;
+      this.normalized = normalized;
+    }
+  }
+
+  private static final class Node {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private char[] keys = NO_KEYS;
+    private Node[] children = NO_CHILDREN;
+    private Entry[] terminals = NO_ENTRIES;
+    private Entry[] top = NO_ENTRIES;
+
+    Node child(char key) {
+      int index = Arrays.binarySearch(keys, key);
+      return index >= 0 ? children[index] : null;
+    }
+
+    Node addChild(char key) {
+      int index = -(Arrays.binarySearch(keys, key) + 1);
+      char[] newKeys = new char[keys.length + 1];
+      Node[] newChildren = new Node[children.length + 1];
+      System.arraycopy(keys, 0, newKeys, 0, index);
+      System.arraycopy(children, 0, newChildren, 0, index);
+      System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+      System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+      Node child = new Node();
+      newKeys[index] = key;
+      newChildren[index] = child;
+      keys = newKeys;
+      children = newChildren;
+      return child;
+    }
+
+    void removeChild(char key) {
+      int index = Arrays.binarySearch(keys, key);
+      if (index < 0) {
+        return;
+      }
+      char[] newKeys = new char[keys.length - 1];
+      Node[] newChildren = new Node[children.length - 1];
+      System.arraycopy(keys, 0, newKeys, 0, index);
+      System.arraycopy(children, 0, newChildren, 0, index);
+      System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+      System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+      keys = newKeys;
+      children = newChildren;
+    }
+
+    void addTerminal(Entry entry) {
+      for (Entry terminal : terminals) {
+        if (terminal == entry) {
+          return;
+        }
+      }
+      terminals = Arrays.copyOf(terminals, terminals.length + 1);
+      terminals[terminals.length - 1] = entry;
+    }
+
+    void removeTerminal(Entry entry) {
+      terminals = Arrays.stream(terminals).filter(terminal -> terminal != entry).toArray(Entry[]::new);
+    }
+
+    boolean isEmpty() {
+      return keys.length == 0 && terminals.length == 0;
+    }
+
+    void rank(int limit) {
+      Set<Entry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+      candidates.addAll(Arrays.asList(terminals));
+      for (Node child : children) {
+        candidates.addAll(Arrays.asList(child.top));
+      }
+      top = candidates.stream().sorted(BY_WEIGHT).limit(limit).toArray(Entry[]::new);
+    }
+  }
+}
@@ -1,10 +1,17 @@
 package com.alec.FindJobApp.service;
 
 import com.alec.FindJobApp.dto.UserDTO;
+import com.alec.FindJobApp.exception.BadRequestException;
+import com.alec.FindJobApp.exception.ConflictException;
 import com.alec.FindJobApp.exception.ResourceNotFoundException;
 import com.alec.FindJobApp.model.Role;
 import com.alec.FindJobApp.model.User;
+import com.alec.FindJobApp.repository.ApplicationRepository;
+import com.alec.FindJobApp.repository.JobRepository;
+import com.alec.FindJobApp.repository.PasswordResetTokenRepository;
+import com.alec.FindJobApp.repository.ProfileRepository;
 import com.alec.FindJobApp.repository.UserRepository;
+import com.alec.FindJobApp.security.AccountStateCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +24,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
   private final UserRepository userRepository;
+  private final ApplicationRepository applicationRepository;
+  private final JobRepository jobRepository;
+  private final ProfileRepository profileRepository;
+  private final PasswordResetTokenRepository passwordResetTokenRepository;
+  private final FileReclamationService fileReclamationService;
+  private final EmailService emailService;
+  private final AccountStateCache accountStateCache;
 
   public User getCurrentUser() {
     String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -67,7 +81,9 @@ public class UserService {
   public void deactivateUser(Long id) {
     User user = getUserById(id);
     user.setIsActive(false);
+    user.revokeTokens();
     userRepository.save(user);
+    accountStateCache.invalidate(id);
   }
 
   @Transactional
@@ -75,12 +91,52 @@ public class UserService {
     User user = getUserById(id);
     user.setIsActive(true);
     userRepository.save(user);
+    accountStateCache.invalidate(id);
+  }
+
+  @Transactional
+  public void approveRecruiter(Long id) {
+    User user = getRecruiter(id);
+    user.setIsApproved(true);
+    userRepository.save(user);
+    emailService.queueRecruiterApprovalEmail(user.getEmail(), user.getFullName());
+  }
+
+  @Transactional
+  public void rejectRecruiter(Long id) {
+    User user = getRecruiter(id);
+    emailService.queueRecruiterRejectionEmail(user.getEmail(), user.getFullName());
+    deleteAccount(user);
+  }
+
+  private User getRecruiter(Long id) {
+    User user = getUserById(id);
+    if (user.getRole() != Role.RECRUITER) {
+      throw new BadRequestException("User is not a recruiter");
+    }
+    return user;
   }
 
   @Transactional
   public void deleteUser(Long id) {
     User user = getUserById(id);
+    if (user.getRole() == Role.RECRUITER && jobRepository.countByRecruiter(user) > 0) {
+      throw new ConflictException("Recruiter still has job postings; delete them first");
+    }
+    deleteAccount(user);
+  }
+
+  /**
+   * Removes the user together with every row that references it, and tombstones their files.
+   */
+  private void deleteAccount(User user) {
+    Long id = user.getId();
+    fileReclamationService.reclaimForUser(id);
+    applicationRepository.deleteBySeekerId(id);
+    profileRepository.deleteByUser(user);
+    passwordResetTokenRepository.deleteByUser(user);
     userRepository.delete(user);
+    accountStateCache.invalidate(id);
   }
 
   public Page<UserDTO> searchUsers(String query, Pageable pageable) {
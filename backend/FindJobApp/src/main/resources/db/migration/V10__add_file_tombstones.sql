@@ -0,0 +1,8 @@
+-- Files whose owning rows were deleted, awaiting removal from app.upload.dir after commit
+CREATE TABLE IF NOT EXISTS file_tombstones (
+    id         BIGSERIAL PRIMARY KEY,
+    path       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_applications_resume_path ON applications (resume_path) WHERE resume_path IS NOT NULL;
@@ -0,0 +1,2 @@
+-- Token version embedded in JWTs; bumped on deactivation and password reset to revoke issued tokens
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
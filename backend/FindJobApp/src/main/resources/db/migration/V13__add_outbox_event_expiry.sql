@@ -0,0 +1,2 @@
+-- Outbox events carrying an OTP code or reset link expire with it and are dropped, not retried
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS expires_at TIMESTAMP;
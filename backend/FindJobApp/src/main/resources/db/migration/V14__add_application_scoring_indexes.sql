@@ -0,0 +1,5 @@
+-- Match-score drain: claims the oldest unscored rows (WHERE match_score IS NULL ORDER BY id)
+CREATE INDEX IF NOT EXISTS idx_applications_unscored ON applications (id) WHERE match_score IS NULL;
+
+-- Profile edits reset a seeker's scores; the (job_id, seeker_id) unique index cannot serve this
+CREATE INDEX IF NOT EXISTS idx_applications_seeker ON applications (seeker_id);
@@ -0,0 +1,3 @@
+-- Keyset pagination over open jobs, newest first: ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_jobs_status_type_created_id ON jobs (status, job_type, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_status_created_id ON jobs (status, created_at DESC, id DESC);
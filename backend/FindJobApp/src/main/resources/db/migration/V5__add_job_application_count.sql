@@ -0,0 +1,5 @@
+-- Denormalized application counter, maintained with atomic increments/decrements
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS application_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE jobs j
+SET application_count = (SELECT COUNT(*) FROM applications a WHERE a.job_id = j.id);
@@ -0,0 +1,5 @@
+-- Partial indexes for /api/jobs/query; the endpoint defaults to status = 'OPEN', so only open rows are indexed.
+CREATE INDEX IF NOT EXISTS idx_jobs_open_type_salary ON jobs (job_type, salary) WHERE status = 'OPEN';
+CREATE INDEX IF NOT EXISTS idx_jobs_open_salary ON jobs (salary) WHERE status = 'OPEN';
+CREATE INDEX IF NOT EXISTS idx_jobs_open_location ON jobs (lower(location) text_pattern_ops) WHERE status = 'OPEN';
+CREATE INDEX IF NOT EXISTS idx_jobs_open_recruiter_created ON jobs (recruiter_id, created_at DESC) WHERE status = 'OPEN';
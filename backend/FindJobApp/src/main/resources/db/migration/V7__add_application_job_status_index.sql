@@ -0,0 +1,2 @@
+-- Recruiter pipeline counts: GROUP BY job_id, status over a recruiter's jobs
+CREATE INDEX IF NOT EXISTS idx_applications_job_status ON applications (job_id, status);
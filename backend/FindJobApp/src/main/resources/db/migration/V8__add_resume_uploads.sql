@@ -0,0 +1,12 @@
+-- Staged resume uploads: written to disk before applying, claimed by applyForJob, swept on expiry
+CREATE TABLE IF NOT EXISTS resume_uploads (
+    id                VARCHAR(36) PRIMARY KEY,
+    seeker_id         BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    stored_path       VARCHAR(255) NOT NULL,
+    original_filename VARCHAR(255),
+    size_bytes        BIGINT       NOT NULL,
+    created_at        TIMESTAMP,
+    expires_at        TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_resume_uploads_expires_at ON resume_uploads (expires_at);
@@ -0,0 +1,5 @@
+-- Precomputed profile-to-job match score; NULL until the background scorer has processed the row
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS match_score REAL;
+
+CREATE INDEX IF NOT EXISTS idx_applications_job_match_score
+    ON applications (job_id, match_score DESC NULLS LAST);
@@ -0,0 +1,139 @@
+package com.alec.FindJobApp.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exercises {@link RateLimitFilter} directly against mock requests: the burst and refill of a
+ * bucket, per-email limits read from a body that still reaches the controller intact, and
+ * percent-encoded paths sharing the limits of the route they resolve to.
+ */
+class RateLimitFilterTest {
+
+  private static final List<String> ROUTES = List.of(
+      "/api/auth/login", "/api/auth/verify-otp", "/api/auth/forgot-password", "/api/auth/register");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void allowsBurstThenRejectsWithRetryAfter() throws Exception {
+    RateLimitFilter filter = filter(new RateLimitProperties.Limit(3, Duration.ofMinutes(1)), null);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(post(filter, "/api/auth/login", "10.0.0.1", null).getStatus()).isEqualTo(200);
+    }
+    MockHttpServletResponse rejected = post(filter, "/api/auth/login", "10.0.0.1", null);
+
+    assertThat(rejected.getStatus()).isEqualTo(429);
+    assertThat(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 61L);
+    assertThat(post(filter, "/api/auth/login", "10.0.0.2", null).getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void refillsAfterTheEmissionInterval() throws Exception {
+    RateLimitFilter filter = filter(new RateLimitProperties.Limit(2, Duration.ofMillis(200)), null);
+
+    post(filter, "/api/auth/login", "10.0.0.1", null);
+    post(filter, "/api/auth/login", "10.0.0.1", null);
+    assertThat(post(filter, "/api/auth/login", "10.0.0.1", null).getStatus()).isEqualTo(429);
+
+    Thread.sleep(300);
+    assertThat(post(filter, "/api/auth/login", "10.0.0.1", null).getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void limitsPerEmailAcrossAddressesAndReplaysTheBody() throws Exception {
+    RateLimitFilter filter = filter(null, new RateLimitProperties.Limit(2, Duration.ofMinutes(1)));
+    List<String> bodies = new ArrayList<>();
+
+    String first = "{\"email\":\"Seeker@Example.com\",\"password\":\"secret\"}";
+    String second = "{\"email\":\"seeker@example.com \",\"password\":\"secret\"}";
+    assertThat(post(filter, "/api/auth/login", "10.0.0.1", first, bodies).getStatus()).isEqualTo(200);
+    assertThat(post(filter, "/api/auth/login", "10.0.0.2", second, bodies).getStatus()).isEqualTo(200);
+    assertThat(post(filter, "/api/auth/login", "10.0.0.3", first, bodies).getStatus()).isEqualTo(429);
+    assertThat(post(filter, "/api/auth/login", "10.0.0.4",
+        "{\"email\":\"other@example.com\"}", bodies).getStatus()).isEqualTo(200);
+
+    assertThat(bodies).containsExactly(first, second, "{\"email\":\"other@example.com\"}");
+  }
+
+  @Test
+  void encodedPathsShareTheLimitOfTheirRoute() throws Exception {
+    RateLimitFilter filter = filter(new RateLimitProperties.Limit(2, Duration.ofMinutes(1)), null);
+
+    for (String route : ROUTES) {
+      int last = route.length() - 1;
+      String encoded = route.substring(0, last) + String.format("%%%02X", (int) route.charAt(last));
+
+      assertThat(post(filter, route, "10.0.0.1", null).getStatus()).isEqualTo(200);
+      assertThat(post(filter, route + ";jsessionid=x", "10.0.0.1", null).getStatus()).isEqualTo(200);
+      assertThat(post(filter, encoded, "10.0.0.1", null).getStatus())
+          .as("encoded variant %s", encoded)
+          .isEqualTo(429);
+    }
+  }
+
+  @Test
+  void ignoresOtherMethodsAndPaths() throws Exception {
+    RateLimitFilter filter = filter(new RateLimitProperties.Limit(1, Duration.ofMinutes(1)), null);
+
+    post(filter, "/api/auth/login", "10.0.0.1", null);
+    assertThat(post(filter, "/api/jobs", "10.0.0.1", null).getStatus()).isEqualTo(200);
+
+    MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/auth/login");
+    get.setRemoteAddr("10.0.0.1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(get, response, new MockFilterChain());
+    assertThat(response.getStatus()).isEqualTo(200);
+  }
+
+  private RateLimitFilter filter(RateLimitProperties.Limit perIp, RateLimitProperties.Limit perEmail) {
+    RateLimitProperties properties = new RateLimitProperties();
+    Map<String, RateLimitProperties.Route> routes = new LinkedHashMap<>();
+    for (String route : ROUTES) {
+      routes.put(route, new RateLimitProperties.Route(perIp, perEmail));
+    }
+    properties.setRoutes(routes);
+    return new RateLimitFilter(properties, objectMapper);
+  }
+
+  private MockHttpServletResponse post(RateLimitFilter filter, String uri, String remoteAddr, String body)
+      throws Exception {
+    return post(filter, uri, remoteAddr, body, new ArrayList<>());
+  }
+
+  private MockHttpServletResponse post(RateLimitFilter filter, String uri, String remoteAddr, String body,
+                                       List<String> received) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+    request.setRemoteAddr(remoteAddr);
+    request.setContentType("application/json");
+    if (body != null) {
+      request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+        received.add(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }));
+    return response;
+  }
+}
@@ -0,0 +1,185 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.exception.ConflictException;
+import com.alec.FindJobApp.model.Job;
+import com.alec.FindJobApp.model.JobType;
+import com.alec.FindJobApp.model.Role;
+import com.alec.FindJobApp.model.User;
+import com.alec.FindJobApp.repository.ApplicationRepository;
+import com.alec.FindJobApp.repository.JobRepository;
+import com.alec.FindJobApp.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires a burst of concurrent applies at one job, with every seeker applying several times at
+ * once, and checks that exactly one application per seeker survives and that duplicates surface
+ * as {@link ConflictException} rather than constraint violations. Latency is only logged for
+ * comparison between runs: with the database in a container on a shared host, no bound is both
+ * reliable and tight enough to tell contention apart from a slow machine.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.jwt.secret=c3RyZXNzLXRlc3Qtc2VjcmV0LWtleS1mb3Itand0LXNpZ25pbmctb25seQ==",
+    "app.jwt.expiration=86400000",
+    "app.cors.allowed-origins=http://localhost:5173",
+    "spring.mail.username=noreply@example.com",
+    "app.upload.dir=target/stress-uploads",
+    "app.search.index-dir=target/stress-search-index"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Slf4j
+class ApplyForJobStressTest {
+
+  private static final int SEEKERS = 100;
+  private static final int ATTEMPTS_PER_SEEKER = 5;
+  // Matches the default Hikari pool size so the logged latency measures the database, not
+  // waiting for a connection.
+  private static final int THREADS = 10;
+  private static final int WARMUP_SEEKERS = 50;
+
+  @Container
+  @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired
+  private ApplicationService applicationService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JobRepository jobRepository;
+
+  @Autowired
+  private ApplicationRepository applicationRepository;
+
+  @Test
+  void burstOfDuplicateAppliesCreatesOneApplicationPerSeeker() throws Exception {
+    User recruiter = userRepository.save(user(Role.RECRUITER));
+    Job job = jobRepository.save(Job.builder()
+        .title("Hot posting")
+        .description("A posting that receives a burst of applications the moment it goes live.")
+        .company("Acme")
+        .location("Kigali")
+        .jobType(JobType.FULL_TIME)
+        .recruiter(recruiter)
+        .build());
+    List<User> seekers = new ArrayList<>();
+    for (int i = 0; i < SEEKERS; i++) {
+      seekers.add(userRepository.save(user(Role.SEEKER)));
+    }
+    warmUp(recruiter);
+
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger created = new AtomicInteger();
+    AtomicInteger conflicts = new AtomicInteger();
+    Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    long[] latencies = new long[SEEKERS * ATTEMPTS_PER_SEEKER];
+    List<Future<?>> futures = new ArrayList<>();
+
+    for (int attempt = 0; attempt < ATTEMPTS_PER_SEEKER; attempt++) {
+      for (int i = 0; i < SEEKERS; i++) {
+        String email = seekers.get(i).getEmail();
+        int slot = attempt * SEEKERS + i;
+        futures.add(pool.submit(() -> {
+          start.await();
+          SecurityContextHolder.getContext().setAuthentication(
+              new UsernamePasswordAuthenticationToken(email, null, List.of()));
+          long started = System.nanoTime();
+          try {
+            applicationService.applyForJob(job.getId(), "Cover letter", null);
+            created.incrementAndGet();
+          } catch (ConflictException e) {
+            conflicts.incrementAndGet();
+          } catch (Throwable e) {
+            failures.add(e);
+          } finally {
+            latencies[slot] = System.nanoTime() - started;
+            SecurityContextHolder.clearContext();
+          }
+          return null;
+        }));
+      }
+    }
+
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(2, TimeUnit.MINUTES);
+    }
+    pool.shutdown();
+
+    assertThat(failures).isEmpty();
+    assertThat(created.get()).isEqualTo(SEEKERS);
+    assertThat(conflicts.get()).isEqualTo(SEEKERS * (ATTEMPTS_PER_SEEKER - 1));
+    assertThat(applicationRepository.countByJob(job)).isEqualTo(SEEKERS);
+    assertThat(jobRepository.findById(job.getId()).orElseThrow().getApplicationCount()).isEqualTo(SEEKERS);
+
+    Arrays.sort(latencies);
+    long p50 = TimeUnit.NANOSECONDS.toMillis(latencies[latencies.length / 2]);
+    long p99 = TimeUnit.NANOSECONDS.toMillis(latencies[latencies.length * 99 / 100]);
+    log.info("Apply burst: {} calls, p50={} ms, p99={} ms", latencies.length, p50, p99);
+  }
+
+  private void warmUp(User recruiter) {
+    Job job = jobRepository.save(Job.builder()
+        .title("Warm-up posting")
+        .description("A posting used only to warm up the apply path before the measured burst.")
+        .company("Acme")
+        .location("Kigali")
+        .jobType(JobType.FULL_TIME)
+        .recruiter(recruiter)
+        .build());
+    for (int i = 0; i < WARMUP_SEEKERS; i++) {
+      User seeker = userRepository.save(user(Role.SEEKER));
+      SecurityContextHolder.getContext().setAuthentication(
+          new UsernamePasswordAuthenticationToken(seeker.getEmail(), null, List.of()));
+      try {
+        applicationService.applyForJob(job.getId(), "Cover letter", null);
+        try {
+          applicationService.applyForJob(job.getId(), "Cover letter", null);
+        } catch (ConflictException expected) {
+          // exercise the conflict path too
+        }
+      } finally {
+        SecurityContextHolder.clearContext();
+      }
+    }
+  }
+
+  private User user(Role role) {
+    return User.builder()
+        .firstName("Stress")
+        .lastName("Test")
+        .email(role.name().toLowerCase() + "-" + UUID.randomUUID() + "@example.com")
+        .password("not-used")
+        .role(role)
+        .isActive(true)
+        .isApproved(true)
+        .build();
+  }
+}
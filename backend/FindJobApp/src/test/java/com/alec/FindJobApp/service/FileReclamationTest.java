@@ -0,0 +1,203 @@
+package com.alec.FindJobApp.service;
+
+import com.alec.FindJobApp.model.Job;
+import com.alec.FindJobApp.model.JobType;
+import com.alec.FindJobApp.model.PasswordResetToken;
+import com.alec.FindJobApp.model.Profile;
+import com.alec.FindJobApp.model.Role;
+import com.alec.FindJobApp.model.User;
+import com.alec.FindJobApp.repository.ApplicationRepository;
+import com.alec.FindJobApp.repository.JobRepository;
+import com.alec.FindJobApp.repository.PasswordResetTokenRepository;
+import com.alec.FindJobApp.repository.ProfileRepository;
+import com.alec.FindJobApp.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Withdraws applications, deletes jobs and deletes accounts the way the endpoints do, and checks
+ * that every referencing row goes with them and that their stored files are removed once the
+ * delete has committed.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.jwt.secret=cmVjbGFtYXRpb24tdGVzdC1zZWNyZXQta2V5LWZvci1qd3Qtc2lnbmluZw==",
+    "app.jwt.expiration=86400000",
+    "app.cors.allowed-origins=http://localhost:5173",
+    "spring.mail.username=noreply@example.com",
+    "app.upload.dir=target/reclamation-uploads",
+    "app.search.index-dir=target/reclamation-search-index"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class FileReclamationTest {
+
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+  @Container
+  @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private ApplicationService applicationService;
+
+  @Autowired
+  private JobService jobService;
+
+  @Autowired
+  private FileStorageService fileStorageService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JobRepository jobRepository;
+
+  @Autowired
+  private ApplicationRepository applicationRepository;
+
+  @Autowired
+  private ProfileRepository profileRepository;
+
+  @Autowired
+  private PasswordResetTokenRepository passwordResetTokenRepository;
+
+  @AfterEach
+  void clearAuthentication() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void withdrawRemovesOnlyThatApplicationsResume() throws IOException {
+    Job job = job(userRepository.save(user(Role.RECRUITER)));
+    User seeker = userRepository.save(user(Role.SEEKER));
+    User other = userRepository.save(user(Role.SEEKER));
+    String resume = file("resumes");
+    String otherResume = file("resumes");
+    Long applicationId = apply(job, seeker, resume);
+    apply(job, other, otherResume);
+
+    authenticate(seeker);
+    applicationService.withdrawApplication(applicationId);
+
+    assertThat(applicationRepository.existsById(applicationId)).isFalse();
+    assertThat(jobRepository.findById(job.getId()).orElseThrow().getApplicationCount()).isEqualTo(1);
+    awaitDeleted(resume);
+    assertThat(Files.exists(fileStorageService.getFilePath(otherResume))).isTrue();
+  }
+
+  @Test
+  void deleteJobRemovesEveryApplicationResume() throws IOException {
+    User recruiter = userRepository.save(user(Role.RECRUITER));
+    Job job = job(recruiter);
+    Job otherJob = job(recruiter);
+    List<String> resumes = List.of(file("resumes"), file("resumes"), file("resumes"));
+    for (String resume : resumes) {
+      apply(job, userRepository.save(user(Role.SEEKER)), resume);
+    }
+    apply(job, userRepository.save(user(Role.SEEKER)), null);
+    String otherResume = file("resumes");
+    apply(otherJob, userRepository.save(user(Role.SEEKER)), otherResume);
+
+    authenticate(recruiter);
+    jobService.deleteJob(job.getId());
+
+    assertThat(jobRepository.existsById(job.getId())).isFalse();
+    assertThat(applicationRepository.countByJob(otherJob)).isEqualTo(1);
+    resumes.forEach(this::awaitDeleted);
+    assertThat(Files.exists(fileStorageService.getFilePath(otherResume))).isTrue();
+  }
+
+  @Test
+  void deleteUserRemovesSeekerWithProfileResetTokenAndApplications() throws IOException {
+    Job job = job(userRepository.save(user(Role.RECRUITER)));
+    User seeker = userRepository.save(user(Role.SEEKER));
+    String resume = file("resumes");
+    String picture = file("profile-pictures");
+    apply(job, seeker, resume);
+    profileRepository.save(Profile.builder().user(seeker).skills("Java").profilePicturePath(picture).build());
+    passwordResetTokenRepository.save(PasswordResetToken.builder()
+        .token(UUID.randomUUID().toString())
+        .user(seeker)
+        .expiryDate(LocalDateTime.now().plusMinutes(30))
+        .build());
+
+    userService.deleteUser(seeker.getId());
+
+    assertThat(userRepository.existsById(seeker.getId())).isFalse();
+    assertThat(profileRepository.findByUserId(seeker.getId())).isEmpty();
+    assertThat(passwordResetTokenRepository.count()).isZero();
+    assertThat(applicationRepository.countByJob(job)).isZero();
+    assertThat(jobRepository.findById(job.getId()).orElseThrow().getApplicationCount()).isZero();
+    awaitDeleted(resume);
+    awaitDeleted(picture);
+  }
+
+  private void authenticate(User user) {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+  }
+
+  private Job job(User recruiter) {
+    return jobRepository.save(Job.builder()
+        .title("Reclamation posting")
+        .description("A posting whose applications carry stored resumes that must be reclaimed.")
+        .company("Acme")
+        .location("Kigali")
+        .jobType(JobType.FULL_TIME)
+        .recruiter(recruiter)
+        .build());
+  }
+
+  private Long apply(Job job, User seeker, String resumePath) {
+    return applicationRepository.insertIfOpenAndAbsent(
+        job.getId(), seeker.getId(), "Cover letter", resumePath, "resume.pdf", LocalDateTime.now())
+        .orElseThrow()
+        .getId();
+  }
+
+  private String file(String subdirectory) throws IOException {
+    String path = subdirectory + "/" + UUID.randomUUID() + ".pdf";
+    Path file = fileStorageService.getFilePath(path);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, "content");
+    return path;
+  }
+
+  private void awaitDeleted(String path) {
+    await().atMost(DRAIN_TIMEOUT).until(() -> !Files.exists(fileStorageService.getFilePath(path)));
+  }
+
+  private User user(Role role) {
+    return User.builder()
+        .firstName("Reclaim")
+        .lastName("Test")
+        .email(role.name().toLowerCase() + "-" + UUID.randomUUID() + "@example.com")
+        .password("not-used")
+        .role(role)
+        .isActive(true)
+        .isApproved(true)
+        .build();
+  }
+}
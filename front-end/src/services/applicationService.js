@@ -1,6 +1,15 @@
 import api from './api';
 
 const applicationService = {
+  async uploadResume(resume) {
+    const formData = new FormData();
+    formData.append('resume', resume);
+    const response = await api.post('/applications/resumes', formData, {
+      headers: { 'Content-Type': 'multipart/form-data' },
+    });
+    return response.data;
+  },
+
   async applyForJob(jobId, coverLetter, resume) {
     const formData = new FormData();
     formData.append('jobId', jobId);
@@ -8,7 +17,8 @@ const applicationService = {
       formData.append('coverLetter', coverLetter);
     }
     if (resume) {
-      formData.append('resume', resume);
+      const upload = await this.uploadResume(resume);
+      formData.append('resumeUploadId', upload.data.uploadId);
     }
     const response = await api.post('/applications', formData, {
       headers: { 'Content-Type': 'multipart/form-data' },
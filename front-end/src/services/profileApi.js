@@ -11,6 +11,16 @@ export const profileApi = {
     return response.data;
   },
 
+  getProfileDetails: async () => {
+    const response = await api.get('/profile/details');
+    return response.data;
+  },
+
+  updateProfileDetails: async (data) => {
+    const response = await api.put('/profile/details', data);
+    return response.data;
+  },
+
   enable2FA: async () => {
     const response = await api.post('/profile/2fa/enable');
     return response.data;